@@ -0,0 +1,40 @@
+package com.bradneighbors.builders.commonslang;
+
+import com.bradneighbors.builders.Builder;
+
+/**
+ * Adapts builders to commons-lang3's <code>org.apache.commons.lang3.builder.Builder</code>, for code written
+ * against it.
+ *
+ * <p>This lives in datebuilder-commons-lang, so only services that use it depend on commons-lang3.</p>
+ *
+ * <p>
+ * Example:
+ * <code>org.apache.commons.lang3.builder.Builder&lt;Date&gt; birthday =
+ * CommonsLangBuilders.asCommonsBuilder(MM_dd_yyyy("08_29_1974"));</code>
+ * </p>
+ */
+public final class CommonsLangBuilders {
+
+    private CommonsLangBuilders() {
+    }
+
+    /**
+     * Wraps a builder as a commons-lang3 builder.
+     *
+     * @param builder the builder to wrap
+     * @param <T>     the type of the value built
+     * @return The commons-lang3 builder, building whatever the wrapped builder builds at the time.
+     */
+    public static <T> org.apache.commons.lang3.builder.Builder<T> asCommonsBuilder(final Builder<T> builder) {
+        if (builder == null) {
+            throw new IllegalArgumentException("Builder must not be null");
+        }
+        return new org.apache.commons.lang3.builder.Builder<T>() {
+            @Override
+            public T build() {
+                return builder.build();
+            }
+        };
+    }
+}
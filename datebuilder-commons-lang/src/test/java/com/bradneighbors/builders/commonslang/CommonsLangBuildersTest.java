@@ -0,0 +1,33 @@
+package com.bradneighbors.builders.commonslang;
+
+import com.bradneighbors.builders.Builder;
+import com.bradneighbors.builders.DateBuilder;
+import com.bradneighbors.builders.ImmutableDateBuilder;
+import org.junit.Test;
+
+import java.util.Date;
+
+import static org.junit.Assert.assertEquals;
+
+public class CommonsLangBuildersTest {
+
+    @Test
+    public void buildsWhatTheWrappedBuilderBuilds() {
+        DateBuilder builder = DateBuilder.MM_dd_yyyy("08_29_1974");
+        org.apache.commons.lang3.builder.Builder<Date> commons = CommonsLangBuilders.asCommonsBuilder(builder);
+        assertEquals(new Date(146966400000L), commons.build());
+        builder.addDays(1);
+        assertEquals(new Date(146966400000L + 86400000L), commons.build());
+    }
+
+    @Test
+    public void buildersAreBuilders() {
+        Builder<Date> builder = ImmutableDateBuilder.ofMillis(146966400000L);
+        assertEquals(new Date(146966400000L), builder.build());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNull() {
+        CommonsLangBuilders.asCommonsBuilder(null);
+    }
+}
@@ -0,0 +1,21 @@
+package com.bradneighbors.builders;
+
+/**
+ * Something that builds a value, such as {@link DateBuilder} and {@link ImmutableDateBuilder}.
+ *
+ * <p>This has the same shape as commons-lang3's <code>org.apache.commons.lang3.builder.Builder</code>, which the
+ * builders used to implement, so the library no longer needs commons-lang3 at runtime. Code that passes builders to
+ * a commons-lang3 API can wrap them with <code>CommonsLangBuilders.asCommonsBuilder(builder)</code> from
+ * datebuilder-commons-lang.</p>
+ *
+ * @param <T> the type of the value built
+ */
+public interface Builder<T> {
+
+    /**
+     * Builds the value.
+     *
+     * @return The value.
+     */
+    T build();
+}
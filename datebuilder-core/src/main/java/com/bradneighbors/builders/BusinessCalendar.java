@@ -0,0 +1,269 @@
+package com.bradneighbors.builders;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.BitSet;
+
+/**
+ * The business days of a range of years: every day that is neither a weekend day nor a holiday.
+ *
+ * <p>A calendar is a bitset with one bit per day, plus the number of business days before each 64-day word of the
+ * bitset. Whether a day is a business day is a single bit test; counting the business days between two dates is two
+ * lookups and two bit counts; and adding business days finds the target by its rank, through a sampled index of
+ * every 64th business day, instead of walking the days one by one. Calendars are immutable and safe to share
+ * between threads.</p>
+ *
+ * <p>Days are epoch days, as returned by {@link DateBuilder#buildEpochDay()}. Days outside the calendar's years are
+ * rejected, as the calendar can't know their holidays.</p>
+ *
+ * <p>
+ * Example:
+ * <code>static final BusinessCalendar SETTLEMENT = BusinessCalendar.years(2000, 2100).holiday(2012, 12, 25).build();</code>
+ * <code>Date settles = MM_dd_yyyy("12_21_2012").addBusinessDays(2, SETTLEMENT).build();</code>
+ * </p>
+ */
+public final class BusinessCalendar {
+
+    private final int firstYear;
+    private final int lastYear;
+    private final long firstDay;
+    private final long endDay;
+    /**
+     * Bit <code>i % 64</code> of <code>days[i / 64]</code> is set if <code>firstDay + i</code> is a business day.
+     */
+    private final long[] days;
+    /**
+     * <code>ranks[w]</code> is the number of business days before word <code>w</code>.
+     */
+    private final int[] ranks;
+    /**
+     * <code>samples[s]</code> is the word holding the business day of rank <code>64 * s</code>.
+     */
+    private final int[] samples;
+
+    private BusinessCalendar(int firstYear, int lastYear, long firstDay, long endDay, long[] days) {
+        this.firstYear = firstYear;
+        this.lastYear = lastYear;
+        this.firstDay = firstDay;
+        this.endDay = endDay;
+        this.days = days;
+        this.ranks = new int[days.length + 1];
+        for (int w = 0; w < days.length; w++) {
+            ranks[w + 1] = ranks[w] + Long.bitCount(days[w]);
+        }
+        int total = ranks[days.length];
+        this.samples = new int[(total >>> 6) + 1];
+        int sample = 0;
+        for (int w = 0; w < days.length; w++) {
+            while (sample < samples.length && (long) sample << 6 < ranks[w + 1]) {
+                samples[sample++] = w;
+            }
+        }
+    }
+
+    /**
+     * Starts defining a calendar covering whole years, with Saturdays and Sundays as weekend days.
+     *
+     * @param firstYear the first year covered
+     * @param lastYear  the last year covered, inclusive
+     * @return The definition, to be completed with holidays.
+     */
+    public static Definition years(int firstYear, int lastYear) {
+        DateMath.checkYear(firstYear);
+        DateMath.checkYear(lastYear);
+        if (lastYear < firstYear) {
+            throw new IllegalArgumentException("Last year " + lastYear + " is before first year " + firstYear);
+        }
+        return new Definition(firstYear, lastYear);
+    }
+
+    /**
+     * @param epochDay the day
+     * @return Whether the day is a business day.
+     * @throws java.lang.IllegalArgumentException When the day is outside the calendar's years.
+     */
+    public boolean isBusinessDay(long epochDay) {
+        long i = index(epochDay);
+        return (days[(int) (i >>> 6)] & 1L << i) != 0;
+    }
+
+    /**
+     * Finds the day a number of business days away. The day itself is not counted, whether or not it is a business
+     * day, so adding one business day gives the next business day, and subtracting one gives the previous one.
+     *
+     * @param epochDay        the day to start from
+     * @param numBusinessDays the number of business days to add, negative to subtract, or zero for the day itself
+     * @return The business day.
+     * @throws java.lang.IllegalArgumentException When either day is outside the calendar's years.
+     */
+    public long addBusinessDays(long epochDay, int numBusinessDays) {
+        index(epochDay);
+        if (numBusinessDays == 0) {
+            return epochDay;
+        }
+        long target = numBusinessDays > 0
+                ? rank(epochDay + 1) + numBusinessDays - 1L
+                : rank(epochDay) + (long) numBusinessDays;
+        if (target < 0 || target >= ranks[days.length]) {
+            throw new IllegalArgumentException(numBusinessDays + " business days from epoch day " + epochDay
+                    + " is outside " + firstYear + " to " + lastYear);
+        }
+        return select((int) target);
+    }
+
+    /**
+     * @param epochDay the day
+     * @return The first business day after the day.
+     * @throws java.lang.IllegalArgumentException When either day is outside the calendar's years.
+     */
+    public long nextBusinessDay(long epochDay) {
+        return addBusinessDays(epochDay, 1);
+    }
+
+    /**
+     * Counts the business days from a day, inclusive, to another, exclusive.
+     *
+     * @param fromEpochDay the first day counted
+     * @param toEpochDay   the day after the last day counted
+     * @return The number of business days, negative if <code>toEpochDay</code> is before <code>fromEpochDay</code>.
+     * @throws java.lang.IllegalArgumentException When either day is outside the calendar's years.
+     */
+    public int businessDaysBetween(long fromEpochDay, long toEpochDay) {
+        return rank(toEpochDay) - rank(fromEpochDay);
+    }
+
+    /**
+     * @return The number of business days before the day; the day after the last year is allowed.
+     */
+    private int rank(long epochDay) {
+        if (epochDay == endDay) {
+            return ranks[days.length];
+        }
+        long i = index(epochDay);
+        int w = (int) (i >>> 6);
+        return ranks[w] + Long.bitCount(days[w] & (1L << i) - 1L);
+    }
+
+    /**
+     * @return The business day with the given number of business days before it.
+     */
+    private long select(int rank) {
+        int w = samples[rank >>> 6];
+        while (ranks[w + 1] <= rank) {
+            w++;
+        }
+        long word = days[w];
+        for (int r = rank - ranks[w]; r > 0; r--) {
+            word &= word - 1L;
+        }
+        return firstDay + ((long) w << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    private long index(long epochDay) {
+        if (epochDay < firstDay || epochDay >= endDay) {
+            throw new IllegalArgumentException("Epoch day " + epochDay + " is outside " + firstYear + " to " + lastYear);
+        }
+        return epochDay - firstDay;
+    }
+
+    /**
+     * The weekend days and holidays of a {@link BusinessCalendar}. A definition is not thread-safe, the calendars it
+     * builds are.
+     */
+    public static final class Definition {
+
+        private final int firstYear;
+        private final int lastYear;
+        private final long firstDay;
+        private final long endDay;
+        private final BitSet holidays = new BitSet();
+        private int weekendMask = 1 << DayOfWeek.SATURDAY.ordinal() | 1 << DayOfWeek.SUNDAY.ordinal();
+
+        private Definition(int firstYear, int lastYear) {
+            this.firstYear = firstYear;
+            this.lastYear = lastYear;
+            this.firstDay = CivilTime.daysFromCivil(firstYear, 1, 1);
+            this.endDay = CivilTime.daysFromCivil(lastYear, 12, 31) + 1;
+        }
+
+        /**
+         * Replaces the weekend days, which are Saturday and Sunday unless specified.
+         *
+         * @param weekendDays the days of the week that are never business days
+         * @return The definition.
+         */
+        public Definition weekend(DayOfWeek... weekendDays) {
+            int mask = 0;
+            for (DayOfWeek day : weekendDays) {
+                mask |= 1 << day.ordinal();
+            }
+            weekendMask = mask;
+            return this;
+        }
+
+        /**
+         * Adds a holiday. Holidays outside the calendar's years are ignored.
+         *
+         * @param year  the year
+         * @param month the month, one-based
+         * @param day   the day of the month
+         * @return The definition.
+         */
+        public Definition holiday(int year, int month, int day) {
+            DateMath.checkMonth(month);
+            if (day < 1 || day > CivilTime.lengthOfMonth(year, month)) {
+                throw new IllegalArgumentException("Day must be between 1 and "
+                        + CivilTime.lengthOfMonth(year, month) + ": " + day);
+            }
+            return holiday(CivilTime.daysFromCivil(year, month, day));
+        }
+
+        /**
+         * Adds a holiday. Holidays outside the calendar's years are ignored.
+         *
+         * @param date the date
+         * @return The definition.
+         */
+        public Definition holiday(LocalDate date) {
+            return holiday(date.toEpochDay());
+        }
+
+        /**
+         * Adds a holiday. Holidays outside the calendar's years are ignored.
+         *
+         * @param epochDay the day
+         * @return The definition.
+         */
+        public Definition holiday(long epochDay) {
+            if (epochDay >= firstDay && epochDay < endDay) {
+                holidays.set((int) (epochDay - firstDay));
+            }
+            return this;
+        }
+
+        /**
+         * Builds the calendar. The definition can keep changing afterwards without affecting it.
+         *
+         * @return The calendar.
+         * @throws java.lang.IllegalArgumentException When the years span more days than a calendar can hold.
+         */
+        public BusinessCalendar build() {
+            long length = endDay - firstDay;
+            if (length > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Calendar from " + firstYear + " to " + lastYear + " is too long");
+            }
+            long[] days = new long[(int) ((length + 63) >>> 6)];
+            // Epoch day 0 was a Thursday
+            int dayOfWeek = (int) Math.floorMod(firstDay + DayOfWeek.THURSDAY.ordinal(), 7L);
+            for (int i = 0; i < length; i++) {
+                if ((weekendMask & 1 << dayOfWeek) == 0 && !holidays.get(i)) {
+                    days[i >>> 6] |= 1L << i;
+                }
+                if (++dayOfWeek == 7) {
+                    dayOfWeek = 0;
+                }
+            }
+            return new BusinessCalendar(firstYear, lastYear, firstDay, endDay, days);
+        }
+    }
+}
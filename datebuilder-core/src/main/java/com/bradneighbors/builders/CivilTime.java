@@ -0,0 +1,167 @@
+package com.bradneighbors.builders;
+
+/**
+ * Proleptic Gregorian calendar arithmetic on UTC epoch days and epoch milliseconds.
+ *
+ * <p>All methods are static, allocation-free and operate on primitives only. Within a window of years, by default
+ * {@value #DEFAULT_TABLE_FIRST_YEAR} to {@value #DEFAULT_TABLE_LAST_YEAR}, conversions are a single load from a
+ * table built on first use; outside it they fall back to arithmetic. The window can be moved with the system
+ * properties {@value #TABLE_FIRST_YEAR_PROPERTY} and {@value #TABLE_LAST_YEAR_PROPERTY}, within years 0 to 9999.</p>
+ */
+final class CivilTime {
+
+    static final long MILLIS_PER_SECOND = 1000L;
+    static final long MILLIS_PER_MINUTE = 60L * MILLIS_PER_SECOND;
+    static final long MILLIS_PER_HOUR = 60L * MILLIS_PER_MINUTE;
+    static final long MILLIS_PER_DAY = 24L * MILLIS_PER_HOUR;
+
+    /**
+     * The length of the 400-year cycle after which the Gregorian calendar repeats.
+     */
+    static final long DAYS_PER_400_YEARS = 146097L;
+
+    /**
+     * The supported range of years, matching the range of epoch milliseconds held in a long.
+     */
+    static final int MIN_YEAR = -292275054;
+    static final int MAX_YEAR = 292278993;
+
+    static final String TABLE_FIRST_YEAR_PROPERTY = "datebuilder.table.firstYear";
+    static final String TABLE_LAST_YEAR_PROPERTY = "datebuilder.table.lastYear";
+    static final int DEFAULT_TABLE_FIRST_YEAR = 1900;
+    static final int DEFAULT_TABLE_LAST_YEAR = 2100;
+
+    private CivilTime() {
+    }
+
+    /**
+     * Computes the number of days since 1970-01-01 for the given civil date.
+     *
+     * @param year  the year
+     * @param month the month, one-based
+     * @param day   the day of the month
+     * @return days since the epoch, negative before 1970
+     */
+    static long daysFromCivil(int year, int month, int day) {
+        int years = year - Table.FIRST_YEAR;
+        if (years >= 0 && years < Table.YEARS && month >= 1 && month <= 12) {
+            return Table.MONTH_STARTS[years * 12 + month - 1] + day - 1L;
+        }
+        return computeDaysFromCivil(year, month, day);
+    }
+
+    static long computeDaysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1L : year;
+        long era = Math.floorDiv(y, 400L);
+        long yearOfEra = y - era * 400L;
+        long dayOfYear = (153L * (month > 2 ? month - 3 : month + 9) + 2L) / 5L + day - 1L;
+        long dayOfEra = yearOfEra * 365L + yearOfEra / 4L - yearOfEra / 100L + dayOfYear;
+        return era * DAYS_PER_400_YEARS + dayOfEra - 719468L;
+    }
+
+    /**
+     * Computes the civil date of the given day since 1970-01-01.
+     *
+     * @param epochDay days since the epoch, negative before 1970
+     * @return the date packed as <code>year &lt;&lt; 9 | month &lt;&lt; 5 | day</code>
+     * @see #yearOf(long)
+     * @see #monthOf(long)
+     * @see #dayOf(long)
+     */
+    static long civilFromDays(long epochDay) {
+        long index = epochDay - Table.FIRST_DAY;
+        if (index >= 0L && index < Table.DATES.length) {
+            return Table.DATES[(int) index];
+        }
+        return computeCivilFromDays(epochDay);
+    }
+
+    static long computeCivilFromDays(long epochDay) {
+        long z = epochDay + 719468L;
+        long era = Math.floorDiv(z, DAYS_PER_400_YEARS);
+        long dayOfEra = z - era * DAYS_PER_400_YEARS;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460L + dayOfEra / 36524L - dayOfEra / 146096L) / 365L;
+        long dayOfYear = dayOfEra - (365L * yearOfEra + yearOfEra / 4L - yearOfEra / 100L);
+        long shiftedMonth = (5L * dayOfYear + 2L) / 153L;
+        long day = dayOfYear - (153L * shiftedMonth + 2L) / 5L + 1L;
+        long month = shiftedMonth < 10L ? shiftedMonth + 3L : shiftedMonth - 9L;
+        long year = yearOfEra + era * 400L + (month <= 2L ? 1L : 0L);
+        return pack(year, month, day);
+    }
+
+    static long pack(long year, long month, long day) {
+        return year << 9 | month << 5 | day;
+    }
+
+    static int yearOf(long packedDate) {
+        return (int) (packedDate >> 9);
+    }
+
+    static int monthOf(long packedDate) {
+        return (int) (packedDate >>> 5) & 15;
+    }
+
+    static int dayOf(long packedDate) {
+        return (int) packedDate & 31;
+    }
+
+    /**
+     * @param year the year
+     * @return whether the year has a February 29th
+     */
+    static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * @param year  the year
+     * @param month the month, one-based
+     * @return the number of days in the month
+     */
+    static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * The packed date of every day of the window and the epoch day of every month start, built on first use.
+     */
+    private static final class Table {
+
+        static final int FIRST_YEAR;
+        static final int YEARS;
+        static final long FIRST_DAY;
+        static final int[] DATES;
+        static final int[] MONTH_STARTS;
+
+        static {
+            int first = Math.max(Integer.getInteger(TABLE_FIRST_YEAR_PROPERTY, DEFAULT_TABLE_FIRST_YEAR), 0);
+            int last = Math.min(Integer.getInteger(TABLE_LAST_YEAR_PROPERTY, DEFAULT_TABLE_LAST_YEAR), 9999);
+            FIRST_YEAR = first;
+            YEARS = Math.max(last - first + 1, 0);
+            FIRST_DAY = computeDaysFromCivil(first, 1, 1);
+            MONTH_STARTS = new int[YEARS * 12];
+            for (int i = 0; i < MONTH_STARTS.length; i++) {
+                MONTH_STARTS[i] = (int) computeDaysFromCivil(first + i / 12, i % 12 + 1, 1);
+            }
+            DATES = new int[(int) (computeDaysFromCivil(first + YEARS, 1, 1) - FIRST_DAY)];
+            int i = 0;
+            for (int year = first; year < first + YEARS; year++) {
+                for (int month = 1; month <= 12; month++) {
+                    for (int day = 1, length = lengthOfMonth(year, month); day <= length; day++) {
+                        DATES[i++] = (int) pack(year, month, day);
+                    }
+                }
+            }
+        }
+    }
+}
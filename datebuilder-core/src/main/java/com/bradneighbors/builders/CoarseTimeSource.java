@@ -0,0 +1,50 @@
+package com.bradneighbors.builders;
+
+/**
+ * A {@link TimeSource} that reads the system clock on a daemon thread once per tick, so reading it is a single
+ * volatile load. Readings lag the system clock by up to one tick.
+ *
+ * <p>Created with {@link TimeSource#coarse(long)}. Closing it stops the thread; it then keeps returning the
+ * last reading.</p>
+ */
+public final class CoarseTimeSource implements TimeSource, AutoCloseable {
+
+    private final Thread ticker;
+    private volatile long millis = System.currentTimeMillis();
+    private volatile boolean closed;
+
+    CoarseTimeSource(final long tickMillis) {
+        if (tickMillis < 1) {
+            throw new IllegalArgumentException("Tick must be at least 1 millisecond: " + tickMillis);
+        }
+        ticker = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                while (!closed) {
+                    millis = System.currentTimeMillis();
+                    try {
+                        Thread.sleep(tickMillis);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }
+        }, "datebuilder-coarse-clock");
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return millis;
+    }
+
+    /**
+     * Stops reading the system clock.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        ticker.interrupt();
+    }
+}
@@ -0,0 +1,140 @@
+package com.bradneighbors.builders;
+
+import java.nio.LongBuffer;
+
+/**
+ * {@link DateBuilder} operations applied in place to whole arrays and buffers of UTC epoch milliseconds.
+ *
+ * <p>Each operation is a single counted loop over primitives with no calls in its body. Shifts by a fixed number of
+ * days, hours or minutes are plain additions, which the JIT compiles to SIMD instructions where the hardware allows.
+ * Truncation to midnight divides by a constant, which the JIT turns into a multiply, and is fused with any day
+ * shift into the same pass. For operations in other time zones, use a {@link DateRecipe}.</p>
+ *
+ * <p>
+ * Example:
+ * <code>DateArrays.addDaysAtMidnight(millis, 1);</code> is the bulk form of
+ * <code>addDays(1).atMidnightExactly()</code>.
+ * </p>
+ */
+public final class DateArrays {
+
+    private DateArrays() {
+    }
+
+    /**
+     * Adds days to every instant.
+     *
+     * @param millis  the epoch milliseconds, updated in place
+     * @param numDays the number of days to add, negative to subtract
+     */
+    public static void addDays(long[] millis, int numDays) {
+        shift(millis, 0, millis.length, numDays * CivilTime.MILLIS_PER_DAY);
+    }
+
+    /**
+     * Adds hours to every instant.
+     *
+     * @param millis the epoch milliseconds, updated in place
+     * @param hours  the number of hours to add, negative to subtract
+     */
+    public static void addHours(long[] millis, int hours) {
+        shift(millis, 0, millis.length, hours * CivilTime.MILLIS_PER_HOUR);
+    }
+
+    /**
+     * Adds a fixed number of milliseconds to every instant of a range.
+     *
+     * @param millis the epoch milliseconds, updated in place
+     * @param from   the first index to update
+     * @param to     the index after the last one to update
+     * @param delta  the milliseconds to add, negative to subtract
+     */
+    public static void shift(long[] millis, int from, int to, long delta) {
+        checkRange(millis.length, from, to);
+        for (int i = from; i < to; i++) {
+            millis[i] += delta;
+        }
+    }
+
+    /**
+     * Truncates every instant to the UTC midnight at or before it.
+     *
+     * @param millis the epoch milliseconds, updated in place
+     */
+    public static void atMidnightExactly(long[] millis) {
+        addDaysAtMidnight(millis, 0, millis.length, 0);
+    }
+
+    /**
+     * Adds days to every instant and truncates it to UTC midnight, in one pass.
+     *
+     * @param millis  the epoch milliseconds, updated in place
+     * @param numDays the number of days to add, negative to subtract
+     */
+    public static void addDaysAtMidnight(long[] millis, int numDays) {
+        addDaysAtMidnight(millis, 0, millis.length, numDays);
+    }
+
+    /**
+     * Adds days to every instant of a range and truncates it to UTC midnight, in one pass.
+     *
+     * @param millis  the epoch milliseconds, updated in place
+     * @param from    the first index to update
+     * @param to      the index after the last one to update
+     * @param numDays the number of days to add, negative to subtract
+     */
+    public static void addDaysAtMidnight(long[] millis, int from, int to, int numDays) {
+        checkRange(millis.length, from, to);
+        long day = CivilTime.MILLIS_PER_DAY;
+        long delta = numDays * day;
+        for (int i = from; i < to; i++) {
+            long value = millis[i];
+            long truncated = value / day * day;
+            millis[i] = (truncated > value ? truncated - day : truncated) + delta;
+        }
+    }
+
+    /**
+     * Adds a fixed number of milliseconds to every instant between the buffer's position and limit.
+     * The buffer's position is left unchanged.
+     *
+     * @param millis the epoch milliseconds, updated in place
+     * @param delta  the milliseconds to add, negative to subtract
+     */
+    public static void shift(LongBuffer millis, long delta) {
+        if (millis.hasArray()) {
+            int base = millis.arrayOffset();
+            shift(millis.array(), base + millis.position(), base + millis.limit(), delta);
+            return;
+        }
+        for (int i = millis.position(), limit = millis.limit(); i < limit; i++) {
+            millis.put(i, millis.get(i) + delta);
+        }
+    }
+
+    /**
+     * Adds days to every instant between the buffer's position and limit and truncates it to UTC midnight.
+     * The buffer's position is left unchanged.
+     *
+     * @param millis  the epoch milliseconds, updated in place
+     * @param numDays the number of days to add, negative to subtract
+     */
+    public static void addDaysAtMidnight(LongBuffer millis, int numDays) {
+        if (millis.hasArray()) {
+            int base = millis.arrayOffset();
+            addDaysAtMidnight(millis.array(), base + millis.position(), base + millis.limit(), numDays);
+            return;
+        }
+        long day = CivilTime.MILLIS_PER_DAY;
+        long delta = numDays * day;
+        for (int i = millis.position(), limit = millis.limit(); i < limit; i++) {
+            millis.put(i, Math.floorDiv(millis.get(i), day) * day + delta);
+        }
+    }
+
+    private static void checkRange(int length, int from, int to) {
+        if (from < 0 || to > length || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") of " + length + " values");
+        }
+    }
+}
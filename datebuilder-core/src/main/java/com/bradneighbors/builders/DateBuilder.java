@@ -0,0 +1,587 @@
+package com.bradneighbors.builders;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+/**
+ * A convenient utility to build dates easily.
+ * The builder holds a single epoch millisecond value and manipulates it with plain calendar arithmetic,
+ * so a chain of calls creates no objects other than the builder itself.
+ *
+ * <p>All dates will be in UTC unless specified with inTimeZone()</p>
+ *
+ * <p>Time zones use offset tables precomputed once per zone and shared by all builders, see
+ * {@link #inTimeZone(String)}. Zone ids and {@link ZoneId}s use the JDK's zone data; other zone data is plugged in
+ * as {@link TimeZoneRules}, which is how <code>JodaDateBuilders</code> in datebuilder-joda supports joda-time
+ * zones.</p>
+ *
+ * <p>Examples: <code>import static DateBuilder.*;</code></p>
+ * <ul>
+ * <li><code>Date oneYearAgoAtMidnight = now().inYear(2009).atMidnightExactly().build();</code></li>
+ * <li><code>Date yesterday = yesterday().build();</code></li>
+ * <li><code>Date tomorrow = tomorrow().build();</code></li>
+ * <li><code>Date birthday = MM_dd_yyyy("08_29_1974").build();</code></li>
+ * <li><code>Date birthday = now().inYear(1974).inMonth(8).onDay(29).build();</code></li>
+ * <li><code>Date midnightInNewYork = now().inTimeZone("America/New_York").atMidnightExactly().build();</code></li>
+ * </ul>
+ */
+public class DateBuilder implements Builder<Date> {
+
+    private static final MidnightCache MIDNIGHT = new MidnightCache();
+
+    private static volatile TimeSource timeSource = TimeSource.system();
+
+    private long millis;
+    private ZoneTable zone = ZoneTable.UTC;
+
+    /**
+     * Sets where every builder created without an explicit {@link TimeSource} gets the current time from.
+     *
+     * @param source the time source, {@link TimeSource#system()} by default
+     */
+    public static void useTimeSource(TimeSource source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Time source must not be null");
+        }
+        timeSource = source;
+    }
+
+    /**
+     * Gets a builder starting with current time.
+     *
+     * @return The builder.
+     */
+    public static DateBuilder now() {
+        return now(timeSource);
+    }
+
+    /**
+     * Gets a builder starting with the current time of the specified time source.
+     *
+     * @param source the time source
+     * @return The builder.
+     */
+    public static DateBuilder now(TimeSource source) {
+        return new DateBuilder(source.currentTimeMillis());
+    }
+
+    /**
+     * Gets a builder starting with the current date at midnight exactly.
+     *
+     * @return The builder.
+     */
+    public static DateBuilder today() {
+        return today(timeSource);
+    }
+
+    /**
+     * Gets a builder starting with the current date of the specified time source at midnight exactly.
+     *
+     * @param source the time source
+     * @return The builder.
+     */
+    public static DateBuilder today(TimeSource source) {
+        return new DateBuilder(MIDNIGHT.midnightOf(source));
+    }
+
+    /**
+     * Gets a builder starting with yesterday's date at current time.
+     *
+     * @return The builder.
+     */
+    public static DateBuilder yesterday() {
+        return yesterday(timeSource);
+    }
+
+    /**
+     * Gets a builder starting with yesterday's date at the current time of the specified time source.
+     *
+     * @param source the time source
+     * @return The builder.
+     */
+    public static DateBuilder yesterday(TimeSource source) {
+        return new DateBuilder(source.currentTimeMillis() - CivilTime.MILLIS_PER_DAY);
+    }
+
+    /**
+     * Gets a builder starting with tomorrow's date at the current time.
+     *
+     * @return The builder.
+     */
+    public static DateBuilder tomorrow() {
+        return tomorrow(timeSource);
+    }
+
+    /**
+     * Gets a builder starting with tomorrow's date at the current time of the specified time source.
+     *
+     * @param source the time source
+     * @return The builder.
+     */
+    public static DateBuilder tomorrow(TimeSource source) {
+        return new DateBuilder(source.currentTimeMillis() + CivilTime.MILLIS_PER_DAY);
+    }
+
+    /**
+     * Gets a builder with starting date at the specified date at midnight.
+     * <p>
+     * <code>Date august29_1974 = DateBuilder.aDate_MM_dd_YYYY("08_29_1974').build();</code>
+     * </p>
+     *
+     * <p>The string must be exactly ten characters with two digit month and day and a four digit year,
+     * and is always interpreted as a UTC date.</p>
+     *
+     * @param date the date string of format MM_DD_YYYY
+     * @return The builder.
+     * @throws java.lang.IllegalArgumentException When the supplied date string can't be converted to a date.
+     */
+    public static DateBuilder MM_dd_yyyy(String date) {
+        long millis = DateParsers.MM_dd_yyyy(date);
+        if (ParseStatus.isFailure(millis)) {
+            throw new IllegalArgumentException("Not a date of format MM_dd_yyyy, "
+                    + ParseStatus.describe(millis) + ": " + date);
+        }
+        return new DateBuilder(millis);
+    }
+
+    /**
+     * Parses a date of format MM_dd_yyyy without throwing, for inputs where bad dates are routine.
+     * <p>
+     * <code>long millis = DateBuilder.tryMM_dd_yyyy("08_29_1974");</code>
+     * </p>
+     *
+     * @param date the date string of format MM_DD_YYYY
+     * @return The UTC epoch milliseconds at midnight of the date, or a failure to be checked with
+     * {@link ParseStatus#isFailure(long)}.
+     */
+    public static long tryMM_dd_yyyy(CharSequence date) {
+        return DateParsers.MM_dd_yyyy(date);
+    }
+
+    /**
+     * Gets a builder with starting date at the date of the pattern, see {@link DatePattern}.
+     * The pattern is compiled on first use and cached.
+     * <p>
+     * <code>Date august29_1974 = DateBuilder.parse("yyyy-MM-dd", "1974-08-29").build();</code>
+     * </p>
+     *
+     * @param pattern the pattern, e.g. <code>yyyy-MM-dd</code>, <code>yyyyMMdd</code>, <code>dd/MM/yyyy</code> or
+     *                {@link DatePattern#EPOCH_SECONDS}
+     * @param text    the text holding the date
+     * @return The builder.
+     * @throws java.lang.IllegalArgumentException When the pattern is not supported or the text can't be converted
+     *                                            to a date.
+     */
+    public static DateBuilder parse(String pattern, CharSequence text) {
+        long millis = DatePattern.compile(pattern).parse(text);
+        if (ParseStatus.isFailure(millis)) {
+            throw new IllegalArgumentException("Not a date of format " + pattern + ", "
+                    + ParseStatus.describe(millis) + ": " + text);
+        }
+        return new DateBuilder(millis);
+    }
+
+    /**
+     * Parses a date of the pattern without throwing for bad text, see {@link #parse(String, CharSequence)}.
+     *
+     * @param pattern the pattern, e.g. <code>yyyy-MM-dd</code>
+     * @param text    the text holding the date
+     * @return The UTC epoch milliseconds, at midnight for a date, or a failure to be checked with
+     * {@link ParseStatus#isFailure(long)}.
+     * @throws java.lang.IllegalArgumentException When the pattern is not supported.
+     */
+    public static long tryParse(String pattern, CharSequence text) {
+        return DatePattern.compile(pattern).parse(text);
+    }
+
+    /**
+     * Gets a builder with starting date at the ASCII date of format MM_dd_yyyy at an index of a buffer,
+     * read directly from the bytes without decoding them into a String. The buffer's position is left unchanged.
+     *
+     * @param bytes  the buffer holding the date, e.g. a slice of a memory-mapped file
+     * @param offset the index of the first month digit
+     * @return The builder.
+     * @throws java.lang.IllegalArgumentException When the bytes can't be converted to a date.
+     */
+    public static DateBuilder MM_dd_yyyy(ByteBuffer bytes, int offset) {
+        long millis = DateParsers.MM_dd_yyyy(bytes, offset);
+        if (ParseStatus.isFailure(millis)) {
+            throw new IllegalArgumentException("Not a date of format MM_dd_yyyy, " + ParseStatus.describe(millis));
+        }
+        return new DateBuilder(millis);
+    }
+
+    /**
+     * Parses an ASCII date of format MM_dd_yyyy at an index of a buffer without throwing or decoding the bytes.
+     * The buffer's position is left unchanged.
+     *
+     * @param bytes  the buffer holding the date, e.g. a slice of a memory-mapped file
+     * @param offset the index of the first month digit
+     * @return The UTC epoch milliseconds at midnight of the date, or a failure to be checked with
+     * {@link ParseStatus#isFailure(long)}.
+     */
+    public static long tryMM_dd_yyyy(ByteBuffer bytes, int offset) {
+        return DateParsers.MM_dd_yyyy(bytes, offset);
+    }
+
+    /**
+     * @param timeInMillis the current time in milliseconds
+     */
+    private DateBuilder(long timeInMillis) {
+        millis = timeInMillis;
+    }
+
+    DateBuilder(long timeInMillis, ZoneTable zone) {
+        this.millis = timeInMillis;
+        this.zone = zone;
+    }
+
+    /**
+     * Instructs the builder to build the date with seconds / milliseconds = 0.
+     *
+     * @return The builder.
+     */
+    public DateBuilder atMidnightExactly() {
+        millis = DateMath.atMidnight(zone, millis);
+        return this;
+    }
+
+    /**
+     * Instructs the builder to add days to the date.
+     *
+     * @param numDays the number of days to add
+     * @return The builder.
+     */
+    public DateBuilder addDays(int numDays) {
+        millis = DateMath.addDays(zone, millis, numDays);
+        return this;
+    }
+
+    /**
+     * Instructs the builder to add years to the date.
+     *
+     * @param numYears the number of years to add
+     * @return The builder.
+     */
+    public DateBuilder addYears(int numYears) {
+        millis = DateMath.addYears(zone, millis, numYears);
+        return this;
+    }
+
+    /**
+     * Instructs the builder to subtract days from the date.
+     *
+     * @param numDays the number of days to subtract
+     * @return The builder.
+     */
+    public DateBuilder subtractDays(int numDays) {
+        millis = DateMath.addDays(zone, millis, -(long) numDays);
+        return this;
+    }
+
+    /**
+     * Instructs the builder to build the date in the specified year.
+     *
+     * @param year the year in which the date should occur
+     * @return The builder.
+     */
+    public DateBuilder inYear(int year) {
+        millis = DateMath.inYear(zone, millis, year);
+        return this;
+    }
+
+    /**
+     * Instructs the builder to build the date in the specified month, one-based. (1=JAN, 2=FEB) etc.
+     *
+     * @param month the month, one-based
+     * @return The builder.
+     */
+    public DateBuilder inMonth(int month) {
+        millis = DateMath.inMonth(zone, millis, month);
+        return this;
+    }
+
+    /**
+     * Instructs the builder to build the date on the specifed day of the month.
+     *
+     * @param day the day of the month
+     * @return The builder.
+     */
+    public DateBuilder onDay(int day) {
+        millis = DateMath.onDay(zone, millis, day);
+        return this;
+    }
+
+    /**
+     * Instructs the builder to add business days to the date, keeping the time of day.
+     * The starting day is not counted, whether or not it is a business day.
+     *
+     * @param numBusinessDays the number of business days to add, negative to subtract
+     * @param calendar        the calendar defining the business days
+     * @return The builder.
+     * @throws java.lang.IllegalArgumentException When either date is outside the calendar's years.
+     */
+    public DateBuilder addBusinessDays(int numBusinessDays, BusinessCalendar calendar) {
+        millis = DateMath.addBusinessDays(zone, millis, calendar, numBusinessDays);
+        return this;
+    }
+
+    /**
+     * Instructs the builder to build the date on the first business day after the date, keeping the time of day.
+     *
+     * @param calendar the calendar defining the business days
+     * @return The builder.
+     * @throws java.lang.IllegalArgumentException When either date is outside the calendar's years.
+     */
+    public DateBuilder nextBusinessDay(BusinessCalendar calendar) {
+        return addBusinessDays(1, calendar);
+    }
+
+    /**
+     * Adds a number of hours to the date.
+     *
+     * @param hours the number of hours to add
+     * @return The builder.
+     */
+    public DateBuilder addHours(int hours) {
+        millis += hours * CivilTime.MILLIS_PER_HOUR;
+        return this;
+    }
+
+    /**
+     * Instructs the builder to build the date in the specified time zone.
+     * The instant being built is kept; the calendar fields set or added afterwards,
+     * including midnight, are those of the wall-clock in the zone.
+     *
+     * @param zoneId the zone id, e.g. <code>America/New_York</code>
+     * @return The builder.
+     * @throws java.lang.IllegalArgumentException When the zone id is not recognised.
+     */
+    public DateBuilder inTimeZone(String zoneId) {
+        zone = ZoneTable.forId(zoneId);
+        return this;
+    }
+
+    /**
+     * Instructs the builder to build the date in the specified time zone.
+     * The instant being built is kept; the calendar fields set or added afterwards,
+     * including midnight, are those of the wall-clock in the zone.
+     *
+     * @param timeZone the time zone
+     * @return The builder.
+     */
+    public DateBuilder inTimeZone(ZoneId timeZone) {
+        zone = ZoneTable.forZone(timeZone);
+        return this;
+    }
+
+    /**
+     * Instructs the builder to build the date in the time zone described by the rules, for zone data other than the
+     * JDK's. The zone's table is built from the rules on first use of its id and shared from then on.
+     *
+     * @param rules the time zone's rules
+     * @return The builder.
+     * @throws java.lang.IllegalArgumentException When the rules are null.
+     */
+    public DateBuilder inTimeZone(TimeZoneRules rules) {
+        zone = ZoneTable.forRules(rules);
+        return this;
+    }
+
+    /**
+     * Subtracts the specified number of the minutes to the date to be built.
+     *
+     * @param minutes num of minutes to subtract
+     * @return The builder.
+     */
+    public DateBuilder subtractMinutes(int minutes) {
+        millis -= minutes * CivilTime.MILLIS_PER_MINUTE;
+        return this;
+    }
+
+    public Date build() {
+        return new Date(millis);
+    }
+
+    /**
+     * Takes an immutable snapshot of the builder, which can be shared between threads.
+     *
+     * @return The immutable builder.
+     */
+    public ImmutableDateBuilder toImmutable() {
+        return new ImmutableDateBuilder(millis, zone);
+    }
+
+    /**
+     * Builds the date as a java.time instant.
+     *
+     * @return The instant.
+     */
+    public Instant buildInstant() {
+        return Instant.ofEpochMilli(millis);
+    }
+
+    /**
+     * Builds the date of the builder's time zone, without the time of day.
+     *
+     * @return The local date.
+     */
+    public LocalDate buildLocalDate() {
+        return LocalDate.ofEpochDay(DateMath.epochDay(zone, millis));
+    }
+
+    /**
+     * Builds the date with the offset of the builder's time zone in force at that instant.
+     *
+     * @return The offset date-time.
+     */
+    public OffsetDateTime buildOffsetDateTime() {
+        return OffsetDateTime.ofInstant(Instant.ofEpochMilli(millis),
+                ZoneOffset.ofTotalSeconds(zone.offsetAt(millis) / (int) CivilTime.MILLIS_PER_SECOND));
+    }
+
+    /**
+     * Builds the date as milliseconds since the epoch, without creating a {@link Date}.
+     *
+     * @return The milliseconds since 1970-01-01T00:00:00Z.
+     */
+    public long buildMillis() {
+        return millis;
+    }
+
+    /**
+     * Builds the date as whole seconds since the epoch, rounding towards negative infinity.
+     *
+     * @return The seconds since 1970-01-01T00:00:00Z.
+     */
+    public long buildEpochSecond() {
+        return Math.floorDiv(millis, CivilTime.MILLIS_PER_SECOND);
+    }
+
+    /**
+     * Builds the date as the number of whole days since the epoch in the builder's time zone,
+     * rounding towards negative infinity.
+     *
+     * @return The days since 1970-01-01.
+     */
+    public long buildEpochDay() {
+        return DateMath.epochDay(zone, millis);
+    }
+
+    /**
+     * Formats the date of the builder's time zone as MM_dd_yyyy, the format read by {@link #MM_dd_yyyy(String)}.
+     *
+     * @return The date, e.g. <code>08_29_1974</code>.
+     * @throws java.lang.IllegalArgumentException When the year is not between 0 and 9999.
+     */
+    public String formatMM_dd_yyyy() {
+        return DateFormatters.MM_dd_yyyy(zone, millis);
+    }
+
+    /**
+     * Appends the date of the builder's time zone as MM_dd_yyyy, without creating intermediate objects.
+     *
+     * @param out the builder to append to
+     * @return The string builder.
+     * @throws java.lang.IllegalArgumentException When the year is not between 0 and 9999.
+     */
+    public StringBuilder formatMM_dd_yyyy(StringBuilder out) {
+        return DateFormatters.MM_dd_yyyy(zone, millis, out);
+    }
+
+    /**
+     * Writes the date of the builder's time zone as the ten characters of MM_dd_yyyy, without allocating.
+     *
+     * @param chars  the array to write to
+     * @param offset the index of the first character to write
+     * @return The index after the last character written.
+     * @throws java.lang.IllegalArgumentException When the year is not between 0 and 9999.
+     * @throws java.lang.IndexOutOfBoundsException When the array has no room for the date at the offset.
+     */
+    public int formatMM_dd_yyyy(char[] chars, int offset) {
+        return DateFormatters.MM_dd_yyyy(zone, millis, chars, offset);
+    }
+
+    /**
+     * Writes the date of the builder's time zone as the ten ASCII bytes of MM_dd_yyyy at the buffer's position,
+     * advancing it, without allocating.
+     *
+     * @param out the buffer to write to
+     * @return The buffer.
+     * @throws java.lang.IllegalArgumentException When the year is not between 0 and 9999.
+     * @throws java.lang.IndexOutOfBoundsException When the buffer has no room for the date.
+     */
+    public ByteBuffer formatMM_dd_yyyy(ByteBuffer out) {
+        return DateFormatters.MM_dd_yyyy(zone, millis, out);
+    }
+
+    /**
+     * Formats the date and time of the builder's time zone as ISO-8601 with milliseconds and the offset in force,
+     * e.g. <code>1974-08-29T13:45:00.000Z</code> in UTC or <code>1974-08-29T09:45:00.000-04:00</code> in New York.
+     *
+     * @return The date and time.
+     * @throws java.lang.IllegalArgumentException When the year is not between 0 and 9999.
+     */
+    public String formatIso8601() {
+        return DateFormatters.iso8601(zone, millis);
+    }
+
+    /**
+     * Appends the date and time of the builder's time zone as ISO-8601, see {@link #formatIso8601()},
+     * without creating intermediate objects.
+     *
+     * @param out the builder to append to
+     * @return The string builder.
+     * @throws java.lang.IllegalArgumentException When the year is not between 0 and 9999.
+     */
+    public StringBuilder formatIso8601(StringBuilder out) {
+        return DateFormatters.iso8601(zone, millis, out);
+    }
+
+    /**
+     * Writes the date and time of the builder's time zone as ISO-8601, see {@link #formatIso8601()},
+     * without allocating. At most 32 characters are written.
+     *
+     * @param chars  the array to write to
+     * @param offset the index of the first character to write
+     * @return The index after the last character written.
+     * @throws java.lang.IllegalArgumentException When the year is not between 0 and 9999.
+     * @throws java.lang.IndexOutOfBoundsException When the array has no room for the date at the offset.
+     */
+    public int formatIso8601(char[] chars, int offset) {
+        return DateFormatters.iso8601(zone, millis, chars, offset);
+    }
+
+    /**
+     * Writes the date and time of the builder's time zone as ISO-8601 in ASCII at the buffer's position,
+     * advancing it, see {@link #formatIso8601()}, without allocating. At most 32 bytes are written.
+     *
+     * @param out the buffer to write to
+     * @return The buffer.
+     * @throws java.lang.IllegalArgumentException When the year is not between 0 and 9999.
+     * @throws java.lang.IndexOutOfBoundsException When the buffer has no room for the date.
+     */
+    public ByteBuffer formatIso8601(ByteBuffer out) {
+        return DateFormatters.iso8601(zone, millis, out);
+    }
+
+    /**
+     * Checks whether the date, in the builder's time zone, is a business day.
+     *
+     * @param calendar the calendar defining the business days
+     * @return Whether the date is a business day.
+     * @throws java.lang.IllegalArgumentException When the date is outside the calendar's years.
+     */
+    public boolean isBusinessDay(BusinessCalendar calendar) {
+        return calendar.isBusinessDay(DateMath.epochDay(zone, millis));
+    }
+
+    ZoneTable zone() {
+        return zone;
+    }
+}
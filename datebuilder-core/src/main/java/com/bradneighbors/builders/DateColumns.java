@@ -0,0 +1,244 @@
+package com.bradneighbors.builders;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses whole columns of dates into epoch milliseconds.
+ *
+ * <p>Each method fills a caller-supplied <code>long[]</code> and never throws for a bad row: rows that can't be
+ * converted to a date are flagged in a caller-supplied {@link BitSet} and their slot in the output is left
+ * untouched. No objects are created per row.</p>
+ *
+ * <p>
+ * Example:
+ * <code>int bad = DateColumns.MM_dd_yyyy(dates, millis, invalid);</code>
+ * </p>
+ */
+public final class DateColumns {
+
+    private DateColumns() {
+    }
+
+    /**
+     * Parses dates of format MM_dd_yyyy into UTC epoch milliseconds at midnight.
+     *
+     * @param dates   the date strings, a <code>String[]</code> works too; null elements count as invalid
+     * @param millis  receives the epoch milliseconds of row <code>i</code> at index <code>i</code>
+     * @param invalid receives a set bit for each row that is not a valid date
+     * @return the number of invalid rows
+     */
+    public static int MM_dd_yyyy(CharSequence[] dates, long[] millis, BitSet invalid) {
+        checkCapacity(dates.length, millis);
+        int invalidCount = 0;
+        for (int i = 0; i < dates.length; i++) {
+            CharSequence date = dates[i];
+            long value = date == null ? ParseStatus.failure(ParseStatus.WRONG_LENGTH, 0) : DateParsers.MM_dd_yyyy(date);
+            if (ParseStatus.isFailure(value)) {
+                invalid.set(i);
+                invalidCount++;
+            } else {
+                millis[i] = value;
+            }
+        }
+        return invalidCount;
+    }
+
+    /**
+     * Parses dates of format MM_dd_yyyy into UTC epoch milliseconds at midnight.
+     *
+     * @param dates   the date strings; null elements count as invalid
+     * @param millis  receives the epoch milliseconds of row <code>i</code> at index <code>i</code>
+     * @param invalid receives a set bit for each row that is not a valid date
+     * @return the number of invalid rows
+     */
+    public static int MM_dd_yyyy(List<? extends CharSequence> dates, long[] millis, BitSet invalid) {
+        checkCapacity(dates.size(), millis);
+        int invalidCount = 0;
+        int i = 0;
+        // Iterated rather than indexed, so that linked lists are read in linear time too
+        for (CharSequence date : dates) {
+            long value = date == null ? ParseStatus.failure(ParseStatus.WRONG_LENGTH, 0) : DateParsers.MM_dd_yyyy(date);
+            if (ParseStatus.isFailure(value)) {
+                invalid.set(i);
+                invalidCount++;
+            } else {
+                millis[i] = value;
+            }
+            i++;
+        }
+        return invalidCount;
+    }
+
+    /**
+     * Parses dates of format MM_dd_yyyy stored back to back, or at arbitrary offsets, in one character array.
+     *
+     * @param chars   the characters holding every date
+     * @param offsets the index of the first character of each row's date
+     * @param count   the number of rows to parse
+     * @param millis  receives the epoch milliseconds of row <code>i</code> at index <code>i</code>
+     * @param invalid receives a set bit for each row that is not a valid date
+     * @return the number of invalid rows
+     */
+    public static int MM_dd_yyyy(char[] chars, int[] offsets, int count, long[] millis, BitSet invalid) {
+        checkRows(count, offsets, millis);
+        int invalidCount = 0;
+        for (int i = 0; i < count; i++) {
+            long value = DateParsers.MM_dd_yyyy(chars, offsets[i]);
+            if (ParseStatus.isFailure(value)) {
+                invalid.set(i);
+                invalidCount++;
+            } else {
+                millis[i] = value;
+            }
+        }
+        return invalidCount;
+    }
+
+    /**
+     * Parses ASCII dates of format MM_dd_yyyy stored back to back, or at arbitrary offsets, in one byte array.
+     *
+     * @param bytes   the ASCII bytes holding every date
+     * @param offsets the index of the first byte of each row's date
+     * @param count   the number of rows to parse
+     * @param millis  receives the epoch milliseconds of row <code>i</code> at index <code>i</code>
+     * @param invalid receives a set bit for each row that is not a valid date
+     * @return the number of invalid rows
+     */
+    public static int MM_dd_yyyy(byte[] bytes, int[] offsets, int count, long[] millis, BitSet invalid) {
+        checkRows(count, offsets, millis);
+        int invalidCount = 0;
+        for (int i = 0; i < count; i++) {
+            long value = DateParsers.MM_dd_yyyy(bytes, offsets[i]);
+            if (ParseStatus.isFailure(value)) {
+                invalid.set(i);
+                invalidCount++;
+            } else {
+                millis[i] = value;
+            }
+        }
+        return invalidCount;
+    }
+
+    /**
+     * Parses ASCII dates of format MM_dd_yyyy at arbitrary indexes of a buffer, such as a memory-mapped file,
+     * without copying the bytes out of it. The buffer's position is left unchanged.
+     *
+     * @param bytes   the ASCII bytes holding every date
+     * @param offsets the index of the first byte of each row's date
+     * @param count   the number of rows to parse
+     * @param millis  receives the epoch milliseconds of row <code>i</code> at index <code>i</code>
+     * @param invalid receives a set bit for each row that is not a valid date
+     * @return the number of invalid rows
+     */
+    public static int MM_dd_yyyy(ByteBuffer bytes, int[] offsets, int count, long[] millis, BitSet invalid) {
+        checkRows(count, offsets, millis);
+        int invalidCount = 0;
+        for (int i = 0; i < count; i++) {
+            long value = DateParsers.MM_dd_yyyy(bytes, offsets[i]);
+            if (ParseStatus.isFailure(value)) {
+                invalid.set(i);
+                invalidCount++;
+            } else {
+                millis[i] = value;
+            }
+        }
+        return invalidCount;
+    }
+
+    /**
+     * Parses dates in any of the formats recognised by {@link DateFormatDetector}. The format of the first rows is
+     * detected once and used for every row; only rows that don't parse in it are classified on their own, so a
+     * column in one format costs a single parse per row, and mixed columns still parse.
+     *
+     * @param dates      the date strings, a <code>String[]</code> works too; null elements count as invalid
+     * @param sampleRows the number of leading rows whose most common format is tried first
+     * @param millis     receives the epoch milliseconds of row <code>i</code> at index <code>i</code>
+     * @param invalid    receives a set bit for each row that is not a valid date
+     * @return the number of invalid rows
+     */
+    public static int autoDetect(CharSequence[] dates, int sampleRows, long[] millis, BitSet invalid) {
+        return autoDetect(Arrays.asList(dates), sampleRows, millis, invalid);
+    }
+
+    /**
+     * Parses dates in any of the formats recognised by {@link DateFormatDetector}, see
+     * {@link #autoDetect(CharSequence[], int, long[], BitSet)}.
+     *
+     * @param dates      the date strings; null elements count as invalid
+     * @param sampleRows the number of leading rows whose most common format is tried first
+     * @param millis     receives the epoch milliseconds of row <code>i</code> at index <code>i</code>
+     * @param invalid    receives a set bit for each row that is not a valid date
+     * @return the number of invalid rows
+     */
+    public static int autoDetect(List<? extends CharSequence> dates, int sampleRows, long[] millis, BitSet invalid) {
+        int size = dates.size();
+        checkCapacity(size, millis);
+        DatePattern locked = mostCommonFormat(dates, Math.min(Math.max(sampleRows, 0), size));
+        int invalidCount = 0;
+        int i = 0;
+        // Iterated rather than indexed, so that linked lists are read in linear time too
+        for (CharSequence date : dates) {
+            long value;
+            if (date == null) {
+                value = ParseStatus.failure(ParseStatus.WRONG_LENGTH, 0);
+            } else {
+                value = locked == null ? ParseStatus.failure(ParseStatus.UNKNOWN_FORMAT, 0) : locked.parse(date);
+                if (ParseStatus.isFailure(value)) {
+                    DatePattern detected = DateFormatDetector.detect(date);
+                    if (detected != null && detected != locked) {
+                        value = detected.parse(date);
+                    }
+                }
+            }
+            if (ParseStatus.isFailure(value)) {
+                invalid.set(i);
+                invalidCount++;
+            } else {
+                millis[i] = value;
+            }
+            i++;
+        }
+        return invalidCount;
+    }
+
+    private static DatePattern mostCommonFormat(List<? extends CharSequence> dates, int sampleRows) {
+        Map<DatePattern, Integer> counts = new IdentityHashMap<DatePattern, Integer>();
+        DatePattern best = null;
+        int bestCount = 0;
+        Iterator<? extends CharSequence> rows = dates.iterator();
+        for (int i = 0; i < sampleRows; i++) {
+            CharSequence date = rows.next();
+            DatePattern pattern = date == null ? null : DateFormatDetector.detect(date);
+            if (pattern == null) {
+                continue;
+            }
+            Integer previous = counts.get(pattern);
+            int count = previous == null ? 1 : previous + 1;
+            counts.put(pattern, count);
+            if (count > bestCount) {
+                best = pattern;
+                bestCount = count;
+            }
+        }
+        return best;
+    }
+
+    private static void checkRows(int count, int[] offsets, long[] millis) {
+        if (count < 0 || count > offsets.length) {
+            throw new IllegalArgumentException("Row count " + count + " exceeds " + offsets.length + " offsets");
+        }
+        checkCapacity(count, millis);
+    }
+
+    private static void checkCapacity(int count, long[] millis) {
+        if (millis.length < count) {
+            throw new IllegalArgumentException("Output holds " + millis.length + " values but " + count + " rows were supplied");
+        }
+    }
+}
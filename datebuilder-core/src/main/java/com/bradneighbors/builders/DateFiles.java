@@ -0,0 +1,141 @@
+package com.bradneighbors.builders;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+
+/**
+ * Parses a column of dates straight out of a delimited ASCII file, such as a CSV feed, into epoch milliseconds.
+ *
+ * <p>The file is memory-mapped a window at a time and the dates are read from the mapped bytes, so no line or field
+ * is decoded into a String and files larger than the 2 GB limit of a single mapping can be read. Lines end with
+ * <code>\n</code> or <code>\r\n</code>; fields are split on a single-byte delimiter without quoting, which suits the
+ * machine-written feeds this is meant for.</p>
+ *
+ * <p>Like {@link DateColumns}, bad rows are flagged in a caller-supplied {@link BitSet} rather than thrown, and their
+ * slot in the output is left untouched.</p>
+ *
+ * <p>
+ * Example:
+ * <code>int rows = DateFiles.MM_dd_yyyy(Paths.get("trades.csv"), ',', 2, true, millis, invalid);</code>
+ * </p>
+ */
+public final class DateFiles {
+
+    /**
+     * The largest window mapped at once.
+     */
+    static final int WINDOW_SIZE = 1 << 30;
+
+    private DateFiles() {
+    }
+
+    /**
+     * Parses the dates of format MM_dd_yyyy in one column of a delimited file into UTC epoch milliseconds at midnight.
+     *
+     * @param file      the file, in ASCII or any ASCII-compatible encoding such as UTF-8
+     * @param delimiter the field delimiter, an ASCII character other than CR or LF, such as <code>','</code> or
+     *                  <code>'\t'</code>
+     * @param column    the zero-based index of the column holding the dates
+     * @param header    whether the first line is a header to be skipped
+     * @param millis    receives the epoch milliseconds of row <code>i</code> at index <code>i</code>
+     * @param invalid   receives a set bit for each row that is not a valid date, including rows without the column
+     * @return the number of rows read, excluding the header
+     * @throws IOException When the file can't be read.
+     * @throws java.lang.IllegalArgumentException When the file has more rows than the output holds.
+     */
+    public static int MM_dd_yyyy(Path file, char delimiter, int column, boolean header, long[] millis,
+                                 BitSet invalid) throws IOException {
+        return MM_dd_yyyy(file, delimiter, column, header, millis, invalid, WINDOW_SIZE);
+    }
+
+    static int MM_dd_yyyy(Path file, char delimiter, int column, boolean header, long[] millis, BitSet invalid,
+                          int windowSize) throws IOException {
+        if (delimiter > 0x7F || delimiter == '\n' || delimiter == '\r') {
+            throw new IllegalArgumentException("Delimiter must be an ASCII character other than CR or LF: "
+                    + (int) delimiter);
+        }
+        if (column < 0) {
+            throw new IllegalArgumentException("Column must not be negative: " + column);
+        }
+        byte separator = (byte) delimiter;
+        int row = header ? -1 : 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0L;
+            while (position < size) {
+                int length = (int) Math.min(size - position, windowSize);
+                boolean lastWindow = position + length == size;
+                MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                int lineStart = 0;
+                while (lineStart < length) {
+                    int lineEnd = indexOf(bytes, (byte) '\n', lineStart, length);
+                    if (lineEnd < 0) {
+                        if (!lastWindow) {
+                            break;
+                        }
+                        lineEnd = length;
+                    }
+                    if (row >= 0) {
+                        if (row == millis.length) {
+                            throw new IllegalArgumentException("Output holds " + millis.length
+                                    + " values but " + file + " has more rows");
+                        }
+                        int end = lineEnd > lineStart && bytes.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+                        long value = field(bytes, lineStart, end, separator, column);
+                        if (ParseStatus.isFailure(value)) {
+                            invalid.set(row);
+                        } else {
+                            millis[row] = value;
+                        }
+                    }
+                    row++;
+                    lineStart = lineEnd + 1;
+                }
+                if (lastWindow) {
+                    break;
+                }
+                if (lineStart == 0) {
+                    throw new IOException("Line at byte " + position + " of " + file + " is longer than "
+                            + windowSize + " bytes");
+                }
+                position += lineStart;
+            }
+        }
+        return Math.max(row, 0);
+    }
+
+    /**
+     * @return the epoch milliseconds of the date in the column of the line, or a {@link ParseStatus} failure
+     */
+    private static long field(MappedByteBuffer bytes, int lineStart, int lineEnd, byte separator, int column) {
+        int start = lineStart;
+        for (int c = 0; c < column; c++) {
+            int next = indexOf(bytes, separator, start, lineEnd);
+            if (next < 0) {
+                return ParseStatus.failure(ParseStatus.WRONG_LENGTH, 0);
+            }
+            start = next + 1;
+        }
+        int end = indexOf(bytes, separator, start, lineEnd);
+        if (end < 0) {
+            end = lineEnd;
+        }
+        if (end - start != DateParsers.MM_DD_YYYY_LENGTH) {
+            return ParseStatus.failure(ParseStatus.WRONG_LENGTH, Math.min(end - start, DateParsers.MM_DD_YYYY_LENGTH));
+        }
+        return DateParsers.MM_dd_yyyy(bytes, start);
+    }
+
+    private static int indexOf(MappedByteBuffer bytes, byte b, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes.get(i) == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,148 @@
+package com.bradneighbors.builders;
+
+/**
+ * Recognises which of the common date formats a text is in and parses it with that format's {@link DatePattern}.
+ *
+ * <p>A text is classified in a single pass by its length and the positions of its non-digit characters, so trying a
+ * format costs no failed parse and no exception. The recognised formats are:</p>
+ * <ul>
+ * <li><code>MM_dd_yyyy</code>, <code>yyyy-MM-dd</code>, <code>yyyy/MM/dd</code> and <code>dd/MM/yyyy</code>;</li>
+ * <li>eight digits as <code>yyyyMMdd</code>;</li>
+ * <li>other whole numbers of up to eleven digits as {@link DatePattern#EPOCH_SECONDS}, and of twelve digits or
+ * more as {@link DatePattern#EPOCH_MILLIS}.</li>
+ * </ul>
+ *
+ * <p>For whole columns, {@link DateColumns#autoDetect(CharSequence[], int, long[], java.util.BitSet)} classifies a
+ * sample of rows once and only classifies the rows that don't match the format the sample settled on.</p>
+ */
+public final class DateFormatDetector {
+
+    static final DatePattern MM_DD_YYYY = DatePattern.compile("MM_dd_yyyy");
+    static final DatePattern ISO = DatePattern.compile("yyyy-MM-dd");
+    static final DatePattern ISO_SLASHES = DatePattern.compile("yyyy/MM/dd");
+    static final DatePattern DAY_FIRST = DatePattern.compile("dd/MM/yyyy");
+    static final DatePattern BASIC_ISO = DatePattern.compile("yyyyMMdd");
+    static final DatePattern EPOCH_SECONDS = DatePattern.compile(DatePattern.EPOCH_SECONDS);
+    static final DatePattern EPOCH_MILLIS = DatePattern.compile(DatePattern.EPOCH_MILLIS);
+
+    /**
+     * The most digits of a number read as epoch seconds; eleven digits reach past the year 5000.
+     */
+    private static final int MAX_SECONDS_DIGITS = 11;
+
+    /**
+     * Separators are tracked as bits of an int, so longer texts are only recognised as numbers.
+     */
+    private static final int MAX_SEPARATED_LENGTH = 31;
+
+    private DateFormatDetector() {
+    }
+
+    /**
+     * Recognises the format of a date.
+     *
+     * @param text the text holding nothing but the date
+     * @return The pattern of the format, or null if the text is in none of the recognised formats.
+     */
+    public static DatePattern detect(CharSequence text) {
+        int length = text.length();
+        int separators = 0;
+        char separator = 0;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                continue;
+            }
+            if (i >= MAX_SEPARATED_LENGTH || separator != 0 && c != separator) {
+                return null;
+            }
+            separator = c;
+            separators |= 1 << i;
+        }
+        return classify(length, separators, separator);
+    }
+
+    /**
+     * Recognises the format of an ASCII date in a range of bytes.
+     *
+     * @param bytes  the ASCII bytes holding the date
+     * @param offset the index of the first byte of the date
+     * @param count  the number of bytes of the date
+     * @return The pattern of the format, or null if the bytes are in none of the recognised formats.
+     */
+    public static DatePattern detect(byte[] bytes, int offset, int count) {
+        if (offset < 0 || count < 0 || offset > bytes.length - count) {
+            return null;
+        }
+        int separators = 0;
+        char separator = 0;
+        for (int i = 0; i < count; i++) {
+            char c = (char) (bytes[offset + i] & 0xFF);
+            if (c >= '0' && c <= '9') {
+                continue;
+            }
+            if (i >= MAX_SEPARATED_LENGTH || separator != 0 && c != separator) {
+                return null;
+            }
+            separator = c;
+            separators |= 1 << i;
+        }
+        return classify(count, separators, separator);
+    }
+
+    /**
+     * Parses a date in any of the recognised formats.
+     *
+     * @param text the text holding nothing but the date
+     * @return The UTC epoch milliseconds, at midnight for a date, or a failure to be checked with
+     * {@link ParseStatus#isFailure(long)}; {@link ParseStatus#UNKNOWN_FORMAT} if no format was recognised.
+     */
+    public static long parse(CharSequence text) {
+        DatePattern pattern = detect(text);
+        return pattern == null ? ParseStatus.failure(ParseStatus.UNKNOWN_FORMAT, 0) : pattern.parse(text);
+    }
+
+    /**
+     * Parses an ASCII date in any of the recognised formats from a range of bytes.
+     *
+     * @param bytes  the ASCII bytes holding the date
+     * @param offset the index of the first byte of the date
+     * @param count  the number of bytes of the date
+     * @return The UTC epoch milliseconds, at midnight for a date, or a failure to be checked with
+     * {@link ParseStatus#isFailure(long)}; {@link ParseStatus#UNKNOWN_FORMAT} if no format was recognised.
+     */
+    public static long parse(byte[] bytes, int offset, int count) {
+        DatePattern pattern = detect(bytes, offset, count);
+        return pattern == null ? ParseStatus.failure(ParseStatus.UNKNOWN_FORMAT, Math.max(offset, 0))
+                : pattern.parse(bytes, offset, count);
+    }
+
+    /**
+     * @param separators bit <code>i</code> is set if the character at <code>i</code> is not a digit
+     * @param separator  the non-digit character, if any
+     */
+    private static DatePattern classify(int length, int separators, char separator) {
+        if (separators == 0) {
+            if (length == 8) {
+                return BASIC_ISO;
+            }
+            if (length == 0) {
+                return null;
+            }
+            return length <= MAX_SECONDS_DIGITS ? EPOCH_SECONDS : EPOCH_MILLIS;
+        }
+        if (separators == 1 && separator == '-' && length > 1) {
+            return length - 1 <= MAX_SECONDS_DIGITS ? EPOCH_SECONDS : EPOCH_MILLIS;
+        }
+        if (length != 10) {
+            return null;
+        }
+        if (separators == (1 << 2 | 1 << 5)) {
+            return separator == '_' ? MM_DD_YYYY : separator == '/' ? DAY_FIRST : null;
+        }
+        if (separators == (1 << 4 | 1 << 7)) {
+            return separator == '-' ? ISO : separator == '/' ? ISO_SLASHES : null;
+        }
+        return null;
+    }
+}
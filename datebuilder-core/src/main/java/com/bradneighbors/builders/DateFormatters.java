@@ -0,0 +1,249 @@
+package com.bradneighbors.builders;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed-width date formatters that write the characters of a date directly into the caller's buffer,
+ * the counterpart of {@link DateParsers}.
+ *
+ * <p>Two-digit fields are copied from a table of the hundred digit pairs instead of being divided down digit by
+ * digit. Epoch days are converted into their year, month and day by {@link CivilTime}, a single table load for the
+ * years it tabulates. Nothing is allocated except by the methods returning a String.</p>
+ */
+final class DateFormatters {
+
+    static final int MM_DD_YYYY_LENGTH = DateParsers.MM_DD_YYYY_LENGTH;
+
+    /**
+     * The length of <code>yyyy-MM-ddTHH:mm:ss.SSS</code>, without the offset.
+     */
+    static final int ISO_8601_LOCAL_LENGTH = 23;
+
+    /**
+     * The longest ISO-8601 text, with an offset of <code>+HH:mm:ss</code>.
+     */
+    static final int ISO_8601_MAX_LENGTH = ISO_8601_LOCAL_LENGTH + 9;
+
+    /**
+     * <code>PAIRS[2 * n]</code> and <code>PAIRS[2 * n + 1]</code> are the two digits of <code>n</code>.
+     */
+    private static final char[] PAIRS = new char[200];
+
+    /**
+     * The epoch days of 0000-01-01 and 9999-12-31, the range of dates with a four-digit year.
+     */
+    private static final long MIN_EPOCH_DAY = CivilTime.computeDaysFromCivil(0, 1, 1);
+    private static final long MAX_EPOCH_DAY = CivilTime.computeDaysFromCivil(9999, 12, 31);
+
+    static {
+        for (int n = 0; n < 100; n++) {
+            PAIRS[2 * n] = (char) ('0' + n / 10);
+            PAIRS[2 * n + 1] = (char) ('0' + n % 10);
+        }
+    }
+
+    private DateFormatters() {
+    }
+
+    static String MM_dd_yyyy(ZoneTable zone, long millis) {
+        char[] chars = new char[MM_DD_YYYY_LENGTH];
+        MM_dd_yyyy(zone, millis, chars, 0);
+        return new String(chars);
+    }
+
+    static int MM_dd_yyyy(ZoneTable zone, long millis, char[] chars, int offset) {
+        checkCapacity(chars.length - offset, MM_DD_YYYY_LENGTH, offset);
+        int date = dateOf(DateMath.epochDay(zone, millis));
+        int year = CivilTime.yearOf(date);
+        pair(chars, offset, CivilTime.monthOf(date));
+        chars[offset + 2] = '_';
+        pair(chars, offset + 3, CivilTime.dayOf(date));
+        chars[offset + 5] = '_';
+        pair(chars, offset + 6, year / 100);
+        pair(chars, offset + 8, year % 100);
+        return offset + MM_DD_YYYY_LENGTH;
+    }
+
+    static StringBuilder MM_dd_yyyy(ZoneTable zone, long millis, StringBuilder out) {
+        int date = dateOf(DateMath.epochDay(zone, millis));
+        int year = CivilTime.yearOf(date);
+        pair(out, CivilTime.monthOf(date));
+        out.append('_');
+        pair(out, CivilTime.dayOf(date));
+        out.append('_');
+        pair(out, year / 100);
+        pair(out, year % 100);
+        return out;
+    }
+
+    static ByteBuffer MM_dd_yyyy(ZoneTable zone, long millis, ByteBuffer out) {
+        checkCapacity(out.remaining(), MM_DD_YYYY_LENGTH, out.position());
+        int date = dateOf(DateMath.epochDay(zone, millis));
+        int year = CivilTime.yearOf(date);
+        pair(out, CivilTime.monthOf(date));
+        out.put((byte) '_');
+        pair(out, CivilTime.dayOf(date));
+        out.put((byte) '_');
+        pair(out, year / 100);
+        pair(out, year % 100);
+        return out;
+    }
+
+    static String iso8601(ZoneTable zone, long millis) {
+        char[] chars = new char[ISO_8601_MAX_LENGTH];
+        return new String(chars, 0, iso8601(zone, millis, chars, 0));
+    }
+
+    static int iso8601(ZoneTable zone, long millis, char[] chars, int offset) {
+        int offsetMillis = zone.offsetAt(millis);
+        checkCapacity(chars.length - offset, iso8601Length(offsetMillis), offset);
+        long local = millis + offsetMillis;
+        long day = Math.floorDiv(local, CivilTime.MILLIS_PER_DAY);
+        int date = dateOf(day);
+        int time = (int) (local - day * CivilTime.MILLIS_PER_DAY);
+        int year = CivilTime.yearOf(date);
+        pair(chars, offset, year / 100);
+        pair(chars, offset + 2, year % 100);
+        chars[offset + 4] = '-';
+        pair(chars, offset + 5, CivilTime.monthOf(date));
+        chars[offset + 7] = '-';
+        pair(chars, offset + 8, CivilTime.dayOf(date));
+        chars[offset + 10] = 'T';
+        pair(chars, offset + 11, time / 3600000);
+        chars[offset + 13] = ':';
+        pair(chars, offset + 14, time / 60000 % 60);
+        chars[offset + 16] = ':';
+        pair(chars, offset + 17, time / 1000 % 60);
+        chars[offset + 19] = '.';
+        chars[offset + 20] = (char) ('0' + time % 1000 / 100);
+        pair(chars, offset + 21, time % 100);
+        int i = offset + ISO_8601_LOCAL_LENGTH;
+        if (offsetMillis == 0) {
+            chars[i] = 'Z';
+            return i + 1;
+        }
+        int offsetSeconds = Math.abs(offsetMillis) / 1000;
+        chars[i] = offsetMillis < 0 ? '-' : '+';
+        pair(chars, i + 1, offsetSeconds / 3600);
+        chars[i + 3] = ':';
+        pair(chars, i + 4, offsetSeconds / 60 % 60);
+        if (offsetSeconds % 60 == 0) {
+            return i + 6;
+        }
+        chars[i + 6] = ':';
+        pair(chars, i + 7, offsetSeconds % 60);
+        return i + 9;
+    }
+
+    static StringBuilder iso8601(ZoneTable zone, long millis, StringBuilder out) {
+        int offsetMillis = zone.offsetAt(millis);
+        long local = millis + offsetMillis;
+        long day = Math.floorDiv(local, CivilTime.MILLIS_PER_DAY);
+        int date = dateOf(day);
+        int time = (int) (local - day * CivilTime.MILLIS_PER_DAY);
+        int year = CivilTime.yearOf(date);
+        pair(out, year / 100);
+        pair(out, year % 100);
+        out.append('-');
+        pair(out, CivilTime.monthOf(date));
+        out.append('-');
+        pair(out, CivilTime.dayOf(date));
+        out.append('T');
+        pair(out, time / 3600000);
+        out.append(':');
+        pair(out, time / 60000 % 60);
+        out.append(':');
+        pair(out, time / 1000 % 60);
+        out.append('.').append((char) ('0' + time % 1000 / 100));
+        pair(out, time % 100);
+        if (offsetMillis == 0) {
+            return out.append('Z');
+        }
+        int offsetSeconds = Math.abs(offsetMillis) / 1000;
+        out.append(offsetMillis < 0 ? '-' : '+');
+        pair(out, offsetSeconds / 3600);
+        out.append(':');
+        pair(out, offsetSeconds / 60 % 60);
+        if (offsetSeconds % 60 != 0) {
+            out.append(':');
+            pair(out, offsetSeconds % 60);
+        }
+        return out;
+    }
+
+    static ByteBuffer iso8601(ZoneTable zone, long millis, ByteBuffer out) {
+        int offsetMillis = zone.offsetAt(millis);
+        checkCapacity(out.remaining(), iso8601Length(offsetMillis), out.position());
+        long local = millis + offsetMillis;
+        long day = Math.floorDiv(local, CivilTime.MILLIS_PER_DAY);
+        int date = dateOf(day);
+        int time = (int) (local - day * CivilTime.MILLIS_PER_DAY);
+        int year = CivilTime.yearOf(date);
+        pair(out, year / 100);
+        pair(out, year % 100);
+        out.put((byte) '-');
+        pair(out, CivilTime.monthOf(date));
+        out.put((byte) '-');
+        pair(out, CivilTime.dayOf(date));
+        out.put((byte) 'T');
+        pair(out, time / 3600000);
+        out.put((byte) ':');
+        pair(out, time / 60000 % 60);
+        out.put((byte) ':');
+        pair(out, time / 1000 % 60);
+        out.put((byte) '.').put((byte) ('0' + time % 1000 / 100));
+        pair(out, time % 100);
+        if (offsetMillis == 0) {
+            return out.put((byte) 'Z');
+        }
+        int offsetSeconds = Math.abs(offsetMillis) / 1000;
+        out.put((byte) (offsetMillis < 0 ? '-' : '+'));
+        pair(out, offsetSeconds / 3600);
+        out.put((byte) ':');
+        pair(out, offsetSeconds / 60 % 60);
+        if (offsetSeconds % 60 != 0) {
+            out.put((byte) ':');
+            pair(out, offsetSeconds % 60);
+        }
+        return out;
+    }
+
+    /**
+     * @return the packed civil date of the epoch day
+     * @throws IllegalArgumentException When the year has more than four digits.
+     */
+    static int dateOf(long epochDay) {
+        if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
+            throw new IllegalArgumentException("Year must be between 0 and 9999 to be formatted: "
+                    + CivilTime.yearOf(CivilTime.civilFromDays(epochDay)));
+        }
+        return (int) CivilTime.civilFromDays(epochDay);
+    }
+
+    private static int iso8601Length(int offsetMillis) {
+        if (offsetMillis == 0) {
+            return ISO_8601_LOCAL_LENGTH + 1;
+        }
+        return offsetMillis % CivilTime.MILLIS_PER_MINUTE == 0 ? ISO_8601_LOCAL_LENGTH + 6 : ISO_8601_MAX_LENGTH;
+    }
+
+    private static void pair(char[] chars, int offset, int n) {
+        chars[offset] = PAIRS[2 * n];
+        chars[offset + 1] = PAIRS[2 * n + 1];
+    }
+
+    private static void pair(StringBuilder out, int n) {
+        out.append(PAIRS[2 * n]).append(PAIRS[2 * n + 1]);
+    }
+
+    private static void pair(ByteBuffer out, int n) {
+        out.put((byte) PAIRS[2 * n]).put((byte) PAIRS[2 * n + 1]);
+    }
+
+    private static void checkCapacity(int remaining, int length, int offset) {
+        if (remaining < length) {
+            throw new IndexOutOfBoundsException("Formatting needs " + length + " characters at " + offset
+                    + ", only " + Math.max(remaining, 0) + " available");
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.bradneighbors.builders;
+
+/**
+ * The operations of {@link DateBuilder} as static functions of an instant and a zone, so they can be shared by the
+ * builder and by code that applies the same operations to many values, such as {@link DateRecipe}.
+ *
+ * <p>Calendar operations work on the wall-clock in the zone; hour and minute operations are absolute.</p>
+ */
+final class DateMath {
+
+    private DateMath() {
+    }
+
+    static long atMidnight(ZoneTable zone, long millis) {
+        int offset = zone.offsetAt(millis);
+        long local = millis + offset;
+        return zone.toUtc(Math.floorDiv(local, CivilTime.MILLIS_PER_DAY) * CivilTime.MILLIS_PER_DAY, offset);
+    }
+
+    static long addDays(ZoneTable zone, long millis, long numDays) {
+        int offset = zone.offsetAt(millis);
+        return zone.toUtc(millis + offset + numDays * CivilTime.MILLIS_PER_DAY, offset);
+    }
+
+    static long addYears(ZoneTable zone, long millis, long numYears) {
+        long date = date(zone, millis);
+        return onDate(zone, millis, checkYear(CivilTime.yearOf(date) + numYears), CivilTime.monthOf(date),
+                CivilTime.dayOf(date));
+    }
+
+    static long inYear(ZoneTable zone, long millis, int year) {
+        long date = date(zone, millis);
+        return onDate(zone, millis, checkYear(year), CivilTime.monthOf(date), CivilTime.dayOf(date));
+    }
+
+    static long inMonth(ZoneTable zone, long millis, int month) {
+        long date = date(zone, millis);
+        return onDate(zone, millis, CivilTime.yearOf(date), checkMonth(month), CivilTime.dayOf(date));
+    }
+
+    static long onDay(ZoneTable zone, long millis, int day) {
+        long date = date(zone, millis);
+        int year = CivilTime.yearOf(date);
+        int month = CivilTime.monthOf(date);
+        if (day < 1 || day > CivilTime.lengthOfMonth(year, month)) {
+            throw new IllegalArgumentException("Day must be between 1 and "
+                    + CivilTime.lengthOfMonth(year, month) + ": " + day);
+        }
+        return onDate(zone, millis, year, month, day);
+    }
+
+    static long addBusinessDays(ZoneTable zone, long millis, BusinessCalendar calendar, int numBusinessDays) {
+        long day = epochDay(zone, millis);
+        return addDays(zone, millis, calendar.addBusinessDays(day, numBusinessDays) - day);
+    }
+
+    static long epochDay(ZoneTable zone, long millis) {
+        return Math.floorDiv(zone.toLocal(millis), CivilTime.MILLIS_PER_DAY);
+    }
+
+    /**
+     * @return the packed civil date of the instant in the zone
+     */
+    static long date(ZoneTable zone, long millis) {
+        return CivilTime.civilFromDays(epochDay(zone, millis));
+    }
+
+    /**
+     * Moves the instant to the given date keeping the time of day, clamping the day to the end of the month.
+     * The instant's offset is kept when it is still valid, so moving to the same date leaves it unchanged.
+     */
+    static long onDate(ZoneTable zone, long millis, int year, int month, int day) {
+        int offset = zone.offsetAt(millis);
+        long millisOfDay = Math.floorMod(millis + offset, CivilTime.MILLIS_PER_DAY);
+        int clampedDay = Math.min(day, CivilTime.lengthOfMonth(year, month));
+        return zone.toUtc(CivilTime.daysFromCivil(year, month, clampedDay) * CivilTime.MILLIS_PER_DAY + millisOfDay,
+                offset);
+    }
+
+    static int checkMonth(int month) {
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("Month must be between 1 and 12: " + month);
+        }
+        return month;
+    }
+
+    static int checkYear(long year) {
+        if (year < CivilTime.MIN_YEAR || year > CivilTime.MAX_YEAR) {
+            throw new IllegalArgumentException("Year must be between " + CivilTime.MIN_YEAR
+                    + " and " + CivilTime.MAX_YEAR + ": " + year);
+        }
+        return (int) year;
+    }
+}
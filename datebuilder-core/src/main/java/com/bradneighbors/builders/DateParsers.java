@@ -0,0 +1,171 @@
+package com.bradneighbors.builders;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed-width date parsers that compute UTC epoch milliseconds directly from the characters,
+ * without creating any intermediate formatter, date or parse position objects.
+ *
+ * <p>The parsers never throw for bad input. They return either the epoch milliseconds or a failure status
+ * as described by {@link ParseStatus}, so the caller pays a branch rather than an exception per bad date.</p>
+ */
+final class DateParsers {
+
+    static final int MM_DD_YYYY_LENGTH = 10;
+
+    private DateParsers() {
+    }
+
+    /**
+     * Parses a date of format MM_dd_yyyy, e.g. <code>08_29_1974</code>.
+     *
+     * @param text the text holding exactly ten characters
+     * @return the UTC epoch milliseconds at midnight of the date, or a {@link ParseStatus} failure
+     */
+    static long MM_dd_yyyy(CharSequence text) {
+        if (text.length() != MM_DD_YYYY_LENGTH) {
+            return ParseStatus.failure(ParseStatus.WRONG_LENGTH, Math.min(text.length(), MM_DD_YYYY_LENGTH));
+        }
+        return MM_dd_yyyy(text, 0);
+    }
+
+    /**
+     * Parses the ten characters of format MM_dd_yyyy starting at the offset.
+     *
+     * @param text   the text containing the date
+     * @param offset the index of the first month digit
+     * @return the UTC epoch milliseconds at midnight of the date, or a {@link ParseStatus} failure
+     */
+    static long MM_dd_yyyy(CharSequence text, int offset) {
+        if (offset < 0 || text.length() - offset < MM_DD_YYYY_LENGTH) {
+            return ParseStatus.failure(ParseStatus.WRONG_LENGTH, Math.max(offset, 0));
+        }
+        int month = digit(text.charAt(offset)) * 10 + digit(text.charAt(offset + 1));
+        int day = digit(text.charAt(offset + 3)) * 10 + digit(text.charAt(offset + 4));
+        int year = digit(text.charAt(offset + 6)) * 1000 + digit(text.charAt(offset + 7)) * 100
+                + digit(text.charAt(offset + 8)) * 10 + digit(text.charAt(offset + 9));
+        if ((month | day | year) < 0 || text.charAt(offset + 2) != '_' || text.charAt(offset + 5) != '_') {
+            for (int i = 0; i < MM_DD_YYYY_LENGTH; i++) {
+                long failure = checkMM_dd_yyyy(text.charAt(offset + i), i, offset);
+                if (failure != 0L) {
+                    return failure;
+                }
+            }
+        }
+        return midnight(year, month, day, offset);
+    }
+
+    /**
+     * Parses the ten characters of format MM_dd_yyyy starting at the offset.
+     *
+     * @param chars  the characters containing the date
+     * @param offset the index of the first month digit
+     * @return the UTC epoch milliseconds at midnight of the date, or a {@link ParseStatus} failure
+     */
+    static long MM_dd_yyyy(char[] chars, int offset) {
+        if (offset < 0 || chars.length - offset < MM_DD_YYYY_LENGTH) {
+            return ParseStatus.failure(ParseStatus.WRONG_LENGTH, Math.max(offset, 0));
+        }
+        int month = digit(chars[offset]) * 10 + digit(chars[offset + 1]);
+        int day = digit(chars[offset + 3]) * 10 + digit(chars[offset + 4]);
+        int year = digit(chars[offset + 6]) * 1000 + digit(chars[offset + 7]) * 100
+                + digit(chars[offset + 8]) * 10 + digit(chars[offset + 9]);
+        if ((month | day | year) < 0 || chars[offset + 2] != '_' || chars[offset + 5] != '_') {
+            for (int i = 0; i < MM_DD_YYYY_LENGTH; i++) {
+                long failure = checkMM_dd_yyyy(chars[offset + i], i, offset);
+                if (failure != 0L) {
+                    return failure;
+                }
+            }
+        }
+        return midnight(year, month, day, offset);
+    }
+
+    /**
+     * Parses the ten ASCII bytes of format MM_dd_yyyy starting at the offset.
+     *
+     * @param bytes  the ASCII bytes containing the date
+     * @param offset the index of the first month digit
+     * @return the UTC epoch milliseconds at midnight of the date, or a {@link ParseStatus} failure
+     */
+    static long MM_dd_yyyy(byte[] bytes, int offset) {
+        if (offset < 0 || bytes.length - offset < MM_DD_YYYY_LENGTH) {
+            return ParseStatus.failure(ParseStatus.WRONG_LENGTH, Math.max(offset, 0));
+        }
+        int month = digit(bytes[offset]) * 10 + digit(bytes[offset + 1]);
+        int day = digit(bytes[offset + 3]) * 10 + digit(bytes[offset + 4]);
+        int year = digit(bytes[offset + 6]) * 1000 + digit(bytes[offset + 7]) * 100
+                + digit(bytes[offset + 8]) * 10 + digit(bytes[offset + 9]);
+        if ((month | day | year) < 0 || bytes[offset + 2] != '_' || bytes[offset + 5] != '_') {
+            for (int i = 0; i < MM_DD_YYYY_LENGTH; i++) {
+                long failure = checkMM_dd_yyyy(bytes[offset + i], i, offset);
+                if (failure != 0L) {
+                    return failure;
+                }
+            }
+        }
+        return midnight(year, month, day, offset);
+    }
+
+    /**
+     * Parses the ten ASCII bytes of format MM_dd_yyyy starting at the absolute index, leaving the buffer's position
+     * unchanged. Works on heap, direct and memory-mapped buffers alike.
+     *
+     * @param bytes  the ASCII bytes containing the date
+     * @param offset the index of the first month digit
+     * @return the UTC epoch milliseconds at midnight of the date, or a {@link ParseStatus} failure
+     */
+    static long MM_dd_yyyy(ByteBuffer bytes, int offset) {
+        if (offset < 0 || bytes.limit() - offset < MM_DD_YYYY_LENGTH) {
+            return ParseStatus.failure(ParseStatus.WRONG_LENGTH, Math.max(offset, 0));
+        }
+        int month = digit(bytes.get(offset)) * 10 + digit(bytes.get(offset + 1));
+        int day = digit(bytes.get(offset + 3)) * 10 + digit(bytes.get(offset + 4));
+        int year = digit(bytes.get(offset + 6)) * 1000 + digit(bytes.get(offset + 7)) * 100
+                + digit(bytes.get(offset + 8)) * 10 + digit(bytes.get(offset + 9));
+        if ((month | day | year) < 0 || bytes.get(offset + 2) != '_' || bytes.get(offset + 5) != '_') {
+            for (int i = 0; i < MM_DD_YYYY_LENGTH; i++) {
+                long failure = checkMM_dd_yyyy(bytes.get(offset + i), i, offset);
+                if (failure != 0L) {
+                    return failure;
+                }
+            }
+        }
+        return midnight(year, month, day, offset);
+    }
+
+    /**
+     * Checks one character of an MM_dd_yyyy date. Only called once the fast path has already failed.
+     *
+     * @return the failure for the character, or zero when the character is acceptable at its position
+     */
+    private static long checkMM_dd_yyyy(int c, int position, int offset) {
+        if (position == 2 || position == 5) {
+            return c == '_' ? 0L : ParseStatus.failure(ParseStatus.MISSING_SEPARATOR, offset + position);
+        }
+        return digit(c) >= 0 ? 0L : ParseStatus.failure(ParseStatus.NOT_A_DIGIT, offset + position);
+    }
+
+    /**
+     * @param offset the index of the first month digit, used to report which field is out of range
+     * @return the UTC epoch milliseconds at midnight of the date, or a {@link ParseStatus} failure
+     */
+    static long midnight(int year, int month, int day, int offset) {
+        if (month < 1 || month > 12) {
+            return ParseStatus.failure(ParseStatus.MONTH_OUT_OF_RANGE, offset);
+        }
+        if (day < 1 || day > CivilTime.lengthOfMonth(year, month)) {
+            return ParseStatus.failure(ParseStatus.DAY_OUT_OF_RANGE, offset + 3);
+        }
+        return CivilTime.daysFromCivil(year, month, day) * CivilTime.MILLIS_PER_DAY;
+    }
+
+    /**
+     * @return the value of the digit, or a large negative number if it is not a digit,
+     * so that any sum of scaled digits containing it stays negative
+     */
+    static int digit(int c) {
+        int d = c - '0';
+        return d >= 0 && d <= 9 ? d : -100000;
+    }
+}
@@ -0,0 +1,292 @@
+package com.bradneighbors.builders;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A date pattern such as <code>yyyy-MM-dd</code> compiled into a parse plan: the text length, the offset of each
+ * field and the position and value of each separator are worked out once, so parsing is a length check, a few
+ * digit reads at fixed offsets and a few separator comparisons.
+ *
+ * <p>A pattern holds <code>yyyy</code>, <code>MM</code> and <code>dd</code> once each, in any order, with any other
+ * characters as separators; letters can be used as separators when quoted, as in <code>yyyyMMdd'Z'</code>.
+ * The special patterns {@link #EPOCH_SECONDS} and {@link #EPOCH_MILLIS} read a signed whole number instead.
+ * Dates are always interpreted as UTC, like {@link DateBuilder#MM_dd_yyyy(String)}.</p>
+ *
+ * <p>The first {@value #MAX_CACHED_PATTERNS} patterns compiled are cached by {@link #compile(String)}; compiled
+ * patterns are immutable and safe to share between threads, so callers with many patterns can keep their own.
+ * Like the other non-throwing parsers, {@link #parse(CharSequence)} returns either the epoch milliseconds or a
+ * failure described by {@link ParseStatus}.</p>
+ *
+ * <p>
+ * Example:
+ * <code>static final DatePattern ISO = DatePattern.compile("yyyy-MM-dd");</code>
+ * <code>long millis = ISO.parse("1974-08-29");</code>
+ * </p>
+ */
+public final class DatePattern {
+
+    /**
+     * The pattern of whole seconds since the epoch, e.g. <code>146966400</code>.
+     */
+    public static final String EPOCH_SECONDS = "epochSeconds";
+
+    /**
+     * The pattern of milliseconds since the epoch, e.g. <code>146966400000</code>.
+     */
+    public static final String EPOCH_MILLIS = "epochMillis";
+
+    /**
+     * The number of patterns {@link #compile(String)} caches, so that patterns taken from input can't grow the cache
+     * without bound. Patterns beyond it are compiled on every call.
+     */
+    static final int MAX_CACHED_PATTERNS = 256;
+
+    private static final ConcurrentMap<String, DatePattern> PATTERNS = new ConcurrentHashMap<String, DatePattern>();
+
+    /**
+     * The most digits of an epoch number, small enough that its value in milliseconds fits a long.
+     */
+    private static final int MAX_EPOCH_SECONDS_DIGITS = 15;
+    private static final int MAX_EPOCH_MILLIS_DIGITS = 18;
+
+    private final String pattern;
+    /**
+     * The digits of an epoch number, or zero for a pattern of fields.
+     */
+    private final int maxEpochDigits;
+    private final long epochScale;
+    private final int length;
+    private final int yearOffset;
+    private final int monthOffset;
+    private final int dayOffset;
+    private final int[] separatorOffsets;
+    private final char[] separators;
+
+    private DatePattern(String pattern, int maxEpochDigits, long epochScale, int length, int yearOffset,
+                        int monthOffset, int dayOffset, int[] separatorOffsets, char[] separators) {
+        this.pattern = pattern;
+        this.maxEpochDigits = maxEpochDigits;
+        this.epochScale = epochScale;
+        this.length = length;
+        this.yearOffset = yearOffset;
+        this.monthOffset = monthOffset;
+        this.dayOffset = dayOffset;
+        this.separatorOffsets = separatorOffsets;
+        this.separators = separators;
+    }
+
+    /**
+     * Gets the compiled form of a pattern, compiling it on first use, or on every use once the cache is full.
+     *
+     * @param pattern the pattern, e.g. <code>yyyy-MM-dd</code>, <code>yyyyMMdd</code>, <code>dd/MM/yyyy</code> or
+     *                {@link #EPOCH_SECONDS}
+     * @return The compiled pattern.
+     * @throws java.lang.IllegalArgumentException When the pattern is not supported.
+     */
+    public static DatePattern compile(String pattern) {
+        DatePattern compiled = PATTERNS.get(pattern);
+        if (compiled == null) {
+            compiled = build(pattern);
+            // Racing threads can overshoot the limit by a few patterns, which keeps the check lock-free
+            if (PATTERNS.size() < MAX_CACHED_PATTERNS) {
+                PATTERNS.putIfAbsent(pattern, compiled);
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * Parses a date of the pattern.
+     *
+     * @param text the text holding nothing but the date
+     * @return The UTC epoch milliseconds, at midnight for a date, or a failure to be checked with
+     * {@link ParseStatus#isFailure(long)}.
+     */
+    public long parse(CharSequence text) {
+        int textLength = text.length();
+        if (maxEpochDigits > 0) {
+            return epoch(text, 0, textLength);
+        }
+        if (textLength != length) {
+            return ParseStatus.failure(ParseStatus.WRONG_LENGTH, Math.min(textLength, length));
+        }
+        int year = DateParsers.digit(text.charAt(yearOffset)) * 1000
+                + DateParsers.digit(text.charAt(yearOffset + 1)) * 100
+                + DateParsers.digit(text.charAt(yearOffset + 2)) * 10
+                + DateParsers.digit(text.charAt(yearOffset + 3));
+        int month = DateParsers.digit(text.charAt(monthOffset)) * 10 + DateParsers.digit(text.charAt(monthOffset + 1));
+        int day = DateParsers.digit(text.charAt(dayOffset)) * 10 + DateParsers.digit(text.charAt(dayOffset + 1));
+        boolean matches = (year | month | day) >= 0;
+        for (int i = 0; matches && i < separatorOffsets.length; i++) {
+            matches = text.charAt(separatorOffsets[i]) == separators[i];
+        }
+        if (!matches) {
+            for (int i = 0; i < length; i++) {
+                long failure = check(text.charAt(i), i, 0);
+                if (failure != 0L) {
+                    return failure;
+                }
+            }
+        }
+        return midnight(year, month, day, 0);
+    }
+
+    /**
+     * Parses an ASCII date of the pattern from a range of bytes.
+     *
+     * @param bytes  the ASCII bytes holding the date
+     * @param offset the index of the first byte of the date
+     * @param count  the number of bytes of the date
+     * @return The UTC epoch milliseconds, at midnight for a date, or a failure to be checked with
+     * {@link ParseStatus#isFailure(long)}. Failure offsets are indexes into the array.
+     */
+    public long parse(byte[] bytes, int offset, int count) {
+        if (offset < 0 || count < 0 || offset > bytes.length - count) {
+            return ParseStatus.failure(ParseStatus.WRONG_LENGTH, Math.max(offset, 0));
+        }
+        if (maxEpochDigits > 0) {
+            return epoch(bytes, offset, count);
+        }
+        if (count != length) {
+            return ParseStatus.failure(ParseStatus.WRONG_LENGTH, offset + Math.min(count, length));
+        }
+        int y = offset + yearOffset;
+        int year = DateParsers.digit(bytes[y]) * 1000 + DateParsers.digit(bytes[y + 1]) * 100
+                + DateParsers.digit(bytes[y + 2]) * 10 + DateParsers.digit(bytes[y + 3]);
+        int month = DateParsers.digit(bytes[offset + monthOffset]) * 10
+                + DateParsers.digit(bytes[offset + monthOffset + 1]);
+        int day = DateParsers.digit(bytes[offset + dayOffset]) * 10 + DateParsers.digit(bytes[offset + dayOffset + 1]);
+        boolean matches = (year | month | day) >= 0;
+        for (int i = 0; matches && i < separatorOffsets.length; i++) {
+            matches = bytes[offset + separatorOffsets[i]] == separators[i];
+        }
+        if (!matches) {
+            for (int i = 0; i < length; i++) {
+                long failure = check(bytes[offset + i], i, offset);
+                if (failure != 0L) {
+                    return failure;
+                }
+            }
+        }
+        return midnight(year, month, day, offset);
+    }
+
+    /**
+     * @return The number of characters of a date of the pattern, or -1 for an epoch pattern, whose length varies.
+     */
+    public int length() {
+        return maxEpochDigits > 0 ? -1 : length;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    /**
+     * Checks one character of a date. Only called once the fast path has already failed.
+     *
+     * @return the failure for the character, or zero when the character is acceptable at its position
+     */
+    private long check(int c, int position, int offset) {
+        for (int i = 0; i < separatorOffsets.length; i++) {
+            if (separatorOffsets[i] == position) {
+                return c == separators[i] ? 0L : ParseStatus.failure(ParseStatus.MISSING_SEPARATOR, offset + position);
+            }
+        }
+        return DateParsers.digit(c) >= 0 ? 0L : ParseStatus.failure(ParseStatus.NOT_A_DIGIT, offset + position);
+    }
+
+    private long midnight(int year, int month, int day, int offset) {
+        if (month < 1 || month > 12) {
+            return ParseStatus.failure(ParseStatus.MONTH_OUT_OF_RANGE, offset + monthOffset);
+        }
+        if (day < 1 || day > CivilTime.lengthOfMonth(year, month)) {
+            return ParseStatus.failure(ParseStatus.DAY_OUT_OF_RANGE, offset + dayOffset);
+        }
+        return CivilTime.daysFromCivil(year, month, day) * CivilTime.MILLIS_PER_DAY;
+    }
+
+    private long epoch(CharSequence text, int offset, int count) {
+        int start = count > 0 && text.charAt(offset) == '-' ? 1 : 0;
+        if (count - start < 1 || count - start > maxEpochDigits) {
+            return ParseStatus.failure(ParseStatus.WRONG_LENGTH, offset + Math.min(count, maxEpochDigits + start));
+        }
+        long value = 0L;
+        for (int i = start; i < count; i++) {
+            int digit = DateParsers.digit(text.charAt(offset + i));
+            if (digit < 0) {
+                return ParseStatus.failure(ParseStatus.NOT_A_DIGIT, offset + i);
+            }
+            value = value * 10 + digit;
+        }
+        return (start == 0 ? value : -value) * epochScale;
+    }
+
+    private long epoch(byte[] bytes, int offset, int count) {
+        int start = count > 0 && bytes[offset] == '-' ? 1 : 0;
+        if (count - start < 1 || count - start > maxEpochDigits) {
+            return ParseStatus.failure(ParseStatus.WRONG_LENGTH, offset + Math.min(count, maxEpochDigits + start));
+        }
+        long value = 0L;
+        for (int i = start; i < count; i++) {
+            int digit = DateParsers.digit(bytes[offset + i]);
+            if (digit < 0) {
+                return ParseStatus.failure(ParseStatus.NOT_A_DIGIT, offset + i);
+            }
+            value = value * 10 + digit;
+        }
+        return (start == 0 ? value : -value) * epochScale;
+    }
+
+    private static DatePattern build(String pattern) {
+        if (EPOCH_SECONDS.equals(pattern)) {
+            return new DatePattern(pattern, MAX_EPOCH_SECONDS_DIGITS, CivilTime.MILLIS_PER_SECOND, -1, 0, 0, 0,
+                    new int[0], new char[0]);
+        }
+        if (EPOCH_MILLIS.equals(pattern)) {
+            return new DatePattern(pattern, MAX_EPOCH_MILLIS_DIGITS, 1L, -1, 0, 0, 0, new int[0], new char[0]);
+        }
+        int yearOffset = -1;
+        int monthOffset = -1;
+        int dayOffset = -1;
+        StringBuilder separators = new StringBuilder();
+        int[] separatorOffsets = new int[pattern.length()];
+        int length = 0;
+        boolean quoted = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (quoted || !Character.isLetter(c)) {
+                separatorOffsets[separators.length()] = length++;
+                separators.append(c);
+            } else if (pattern.startsWith("yyyy", i) && yearOffset < 0) {
+                yearOffset = length;
+                length += 4;
+                i += 3;
+            } else if (pattern.startsWith("MM", i) && monthOffset < 0) {
+                monthOffset = length;
+                length += 2;
+                i += 1;
+            } else if (pattern.startsWith("dd", i) && dayOffset < 0) {
+                dayOffset = length;
+                length += 2;
+                i += 1;
+            } else {
+                throw new IllegalArgumentException("Unsupported date pattern, expected yyyy, MM and dd once each: "
+                        + pattern);
+            }
+        }
+        if (quoted || yearOffset < 0 || monthOffset < 0 || dayOffset < 0) {
+            throw new IllegalArgumentException("Unsupported date pattern, expected yyyy, MM and dd once each: "
+                    + pattern);
+        }
+        int count = separators.length();
+        int[] offsets = new int[count];
+        System.arraycopy(separatorOffsets, 0, offsets, 0, count);
+        return new DatePattern(pattern, 0, 0L, length, yearOffset, monthOffset, dayOffset, offsets,
+                separators.toString().toCharArray());
+    }
+}
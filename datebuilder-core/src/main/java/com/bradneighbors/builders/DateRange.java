@@ -0,0 +1,255 @@
+package com.bradneighbors.builders;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The instants from a start date, inclusive, up to an end date, exclusive, generated lazily as epoch milliseconds.
+ *
+ * <p>The streams are backed by a sized spliterator that computes each element from its index rather than from the
+ * previous one, so a range of any length splits evenly across the fork-join pool and costs no allocation per
+ * element. Day steps follow the wall-clock of the start builder's time zone, hour steps are absolute.</p>
+ *
+ * <p>
+ * Example:
+ * <code>LongStream days = DateRange.from(MM_dd_yyyy("01_01_2012")).until(MM_dd_yyyy("01_01_2013")).everyDays(1);</code>
+ * </p>
+ */
+public final class DateRange {
+
+    private final long start;
+    private final long end;
+    private final ZoneTable zone;
+
+    private DateRange(long start, long end, ZoneTable zone) {
+        this.start = start;
+        this.end = end;
+        this.zone = zone;
+    }
+
+    /**
+     * Starts a range at the builder's current date, in the builder's time zone.
+     *
+     * @param start the builder holding the first date of the range
+     * @return The start of the range, to be completed with <code>until()</code>.
+     */
+    public static Start from(DateBuilder start) {
+        return new Start(start.buildMillis(), start.zone());
+    }
+
+    /**
+     * Starts a range at the builder's date, in the builder's time zone.
+     *
+     * @param start the builder holding the first date of the range
+     * @return The start of the range, to be completed with <code>until()</code>.
+     */
+    public static Start from(ImmutableDateBuilder start) {
+        return new Start(start.buildMillis(), start.zone());
+    }
+
+    /**
+     * Generates the dates a whole number of days apart.
+     *
+     * @param numDays the number of days between dates, at least 1
+     * @return The epoch milliseconds of each date, in order.
+     */
+    public LongStream everyDays(int numDays) {
+        if (numDays < 1) {
+            throw new IllegalArgumentException("Step must be at least 1 day: " + numDays);
+        }
+        if (zone.isFixed()) {
+            return every(numDays * CivilTime.MILLIS_PER_DAY);
+        }
+        long estimate = Math.max(0L, (zone.toLocal(end) - zone.toLocal(start)) / (numDays * CivilTime.MILLIS_PER_DAY));
+        long count = Math.max(0L, estimate - 1L);
+        while (count > 0 && DateMath.addDays(zone, start, (count - 1) * numDays) >= end) {
+            count--;
+        }
+        while (DateMath.addDays(zone, start, count * numDays) < end) {
+            count++;
+        }
+        return StreamSupport.longStream(new ZonedDaysSpliterator(start, zone, numDays, 0L, count), false);
+    }
+
+    /**
+     * Generates the dates a whole number of hours apart.
+     *
+     * @param hours the number of hours between dates, at least 1
+     * @return The epoch milliseconds of each date, in order.
+     */
+    public LongStream everyHours(int hours) {
+        if (hours < 1) {
+            throw new IllegalArgumentException("Step must be at least 1 hour: " + hours);
+        }
+        return every(hours * CivilTime.MILLIS_PER_HOUR);
+    }
+
+    /**
+     * Generates the instants a fixed number of milliseconds apart.
+     *
+     * @param stepMillis the milliseconds between instants, at least 1
+     * @return The epoch milliseconds of each instant, in order.
+     */
+    public LongStream every(long stepMillis) {
+        if (stepMillis < 1) {
+            throw new IllegalArgumentException("Step must be at least 1 millisecond: " + stepMillis);
+        }
+        long count = end <= start ? 0L : (end - start - 1L) / stepMillis + 1L;
+        return StreamSupport.longStream(new FixedStepSpliterator(start, stepMillis, 0L, count), false);
+    }
+
+    /**
+     * The first date of a {@link DateRange}.
+     */
+    public static final class Start {
+
+        private final long start;
+        private final ZoneTable zone;
+
+        private Start(long start, ZoneTable zone) {
+            this.start = start;
+            this.zone = zone;
+        }
+
+        /**
+         * Ends the range just before the builder's current date.
+         *
+         * @param end the builder holding the first date after the range
+         * @return The range.
+         */
+        public DateRange until(DateBuilder end) {
+            return until(end.buildMillis());
+        }
+
+        /**
+         * Ends the range just before the builder's date.
+         *
+         * @param end the builder holding the first date after the range
+         * @return The range.
+         */
+        public DateRange until(ImmutableDateBuilder end) {
+            return until(end.buildMillis());
+        }
+
+        /**
+         * Ends the range just before the instant.
+         *
+         * @param endMillis the epoch milliseconds of the first instant after the range
+         * @return The range.
+         */
+        public DateRange until(long endMillis) {
+            return new DateRange(start, endMillis, zone);
+        }
+    }
+
+    /**
+     * Splits a range of element indexes in half; subclasses compute the element at an index.
+     */
+    private abstract static class IndexedSpliterator implements Spliterator.OfLong {
+
+        long index;
+        final long fence;
+
+        IndexedSpliterator(long index, long fence) {
+            this.index = index;
+            this.fence = fence;
+        }
+
+        abstract long valueAt(long i);
+
+        abstract IndexedSpliterator slice(long from, long to);
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(valueAt(index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            long i = index;
+            index = fence;
+            for (; i < fence; i++) {
+                action.accept(valueAt(i));
+            }
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            long mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            IndexedSpliterator prefix = slice(index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL | DISTINCT | SORTED;
+        }
+
+        @Override
+        public Comparator<? super Long> getComparator() {
+            return null;
+        }
+    }
+
+    private static final class FixedStepSpliterator extends IndexedSpliterator {
+
+        private final long start;
+        private final long step;
+
+        FixedStepSpliterator(long start, long step, long index, long fence) {
+            super(index, fence);
+            this.start = start;
+            this.step = step;
+        }
+
+        @Override
+        long valueAt(long i) {
+            return start + i * step;
+        }
+
+        @Override
+        IndexedSpliterator slice(long from, long to) {
+            return new FixedStepSpliterator(start, step, from, to);
+        }
+    }
+
+    private static final class ZonedDaysSpliterator extends IndexedSpliterator {
+
+        private final long start;
+        private final ZoneTable zone;
+        private final long numDays;
+
+        ZonedDaysSpliterator(long start, ZoneTable zone, long numDays, long index, long fence) {
+            super(index, fence);
+            this.start = start;
+            this.zone = zone;
+            this.numDays = numDays;
+        }
+
+        @Override
+        long valueAt(long i) {
+            return DateMath.addDays(zone, start, i * numDays);
+        }
+
+        @Override
+        IndexedSpliterator slice(long from, long to) {
+            return new ZonedDaysSpliterator(start, zone, numDays, from, to);
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.bradneighbors.builders;
+
+import java.time.ZoneId;
+import java.util.Arrays;
+
+/**
+ * A chain of {@link DateBuilder} operations recorded once and applied to any number of instants.
+ *
+ * <p>Recipes are immutable and safe to share between threads. While recording, consecutive operations are fused:
+ * additions of hours and minutes collapse into a single millisecond delta, and so do additions of days in UTC or
+ * any other fixed-offset zone. In zones with daylight saving time each addition of days is kept, since a day landing
+ * in a gap moves the time of day just as it does for the builder. Applying a recipe allocates nothing.</p>
+ *
+ * <p>Like a builder, a recipe works in UTC until it records <code>inTimeZone()</code>.</p>
+ *
+ * <p>
+ * Example:
+ * <code>DateRecipe startOfYesterday = DateRecipe.recipe().subtractDays(1).atMidnightExactly().build();
+ * long millis = startOfYesterday.apply(eventMillis);</code>
+ * </p>
+ */
+public final class DateRecipe {
+
+    private static final int MIDNIGHT = 0;
+    private static final int SHIFT = 1;
+    private static final int DAYS = 2;
+    private static final int YEARS = 3;
+    private static final int IN_YEAR = 4;
+    private static final int IN_MONTH = 5;
+    private static final int ON_DAY = 6;
+    private static final int ZONE = 7;
+
+    private final int[] ops;
+    private final long[] args;
+    private final ZoneTable[] zones;
+
+    private DateRecipe(int[] ops, long[] args, ZoneTable[] zones) {
+        this.ops = ops;
+        this.args = args;
+        this.zones = zones;
+    }
+
+    /**
+     * Starts recording a recipe.
+     *
+     * @return The recorder.
+     */
+    public static Recorder recipe() {
+        return new Recorder();
+    }
+
+    /**
+     * Applies the recipe to an instant.
+     *
+     * @param millis the epoch milliseconds to start from
+     * @return The epoch milliseconds of the built date.
+     */
+    public long apply(long millis) {
+        ZoneTable zone = ZoneTable.UTC;
+        for (int i = 0; i < ops.length; i++) {
+            long arg = args[i];
+            switch (ops[i]) {
+                case MIDNIGHT:
+                    millis = DateMath.atMidnight(zone, millis);
+                    break;
+                case SHIFT:
+                    millis += arg;
+                    break;
+                case DAYS:
+                    millis = DateMath.addDays(zone, millis, arg);
+                    break;
+                case YEARS:
+                    millis = DateMath.addYears(zone, millis, arg);
+                    break;
+                case IN_YEAR:
+                    millis = DateMath.inYear(zone, millis, (int) arg);
+                    break;
+                case IN_MONTH:
+                    millis = DateMath.inMonth(zone, millis, (int) arg);
+                    break;
+                case ON_DAY:
+                    millis = DateMath.onDay(zone, millis, (int) arg);
+                    break;
+                default:
+                    zone = zones[(int) arg];
+                    break;
+            }
+        }
+        return millis;
+    }
+
+    /**
+     * Applies the recipe to every instant of an array, replacing each with its result.
+     *
+     * @param millis the epoch milliseconds to start from, overwritten with the results
+     */
+    public void applyAll(long[] millis) {
+        applyAll(millis, 0, millis.length);
+    }
+
+    /**
+     * Applies the recipe to a range of an array, replacing each instant with its result.
+     *
+     * @param millis the epoch milliseconds to start from, overwritten with the results
+     * @param from   the first index to apply the recipe to
+     * @param to     the index after the last one to apply the recipe to
+     */
+    public void applyAll(long[] millis, int from, int to) {
+        if (from < 0 || to > millis.length || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") of " + millis.length + " values");
+        }
+        if (ops.length == 1 && ops[0] == SHIFT) {
+            long delta = args[0];
+            for (int i = from; i < to; i++) {
+                millis[i] += delta;
+            }
+            return;
+        }
+        for (int i = from; i < to; i++) {
+            millis[i] = apply(millis[i]);
+        }
+    }
+
+    /**
+     * Records the operations of a {@link DateRecipe}, with the same methods as {@link DateBuilder}.
+     * A recorder is not thread-safe, the recipes it builds are.
+     */
+    public static final class Recorder {
+
+        private int[] ops = new int[8];
+        private long[] args = new long[8];
+        private ZoneTable[] zones = new ZoneTable[0];
+        private int size;
+        private ZoneTable zone = ZoneTable.UTC;
+
+        private Recorder() {
+        }
+
+        /**
+         * Records building the date with seconds / milliseconds = 0.
+         *
+         * @return The recorder.
+         */
+        public Recorder atMidnightExactly() {
+            if (size == 0 || ops[size - 1] != MIDNIGHT) {
+                append(MIDNIGHT, 0L);
+            }
+            return this;
+        }
+
+        /**
+         * Records adding days to the date.
+         *
+         * @param numDays the number of days to add
+         * @return The recorder.
+         */
+        public Recorder addDays(int numDays) {
+            return days(numDays);
+        }
+
+        /**
+         * Records subtracting days from the date.
+         *
+         * @param numDays the number of days to subtract
+         * @return The recorder.
+         */
+        public Recorder subtractDays(int numDays) {
+            return days(-(long) numDays);
+        }
+
+        /**
+         * Records adding years to the date.
+         *
+         * @param numYears the number of years to add
+         * @return The recorder.
+         */
+        public Recorder addYears(int numYears) {
+            append(YEARS, numYears);
+            return this;
+        }
+
+        /**
+         * Records building the date in the specified year.
+         *
+         * @param year the year in which the date should occur
+         * @return The recorder.
+         */
+        public Recorder inYear(int year) {
+            append(IN_YEAR, DateMath.checkYear(year));
+            return this;
+        }
+
+        /**
+         * Records building the date in the specified month, one-based. (1=JAN, 2=FEB) etc.
+         *
+         * @param month the month, one-based
+         * @return The recorder.
+         */
+        public Recorder inMonth(int month) {
+            append(IN_MONTH, DateMath.checkMonth(month));
+            return this;
+        }
+
+        /**
+         * Records building the date on the specified day of the month.
+         * Applying the recipe throws if the day is not within the month at that point.
+         *
+         * @param day the day of the month
+         * @return The recorder.
+         */
+        public Recorder onDay(int day) {
+            if (day < 1 || day > 31) {
+                throw new IllegalArgumentException("Day must be between 1 and 31: " + day);
+            }
+            append(ON_DAY, day);
+            return this;
+        }
+
+        /**
+         * Records adding hours to the date.
+         *
+         * @param hours the number of hours to add
+         * @return The recorder.
+         */
+        public Recorder addHours(int hours) {
+            return shift(hours * CivilTime.MILLIS_PER_HOUR);
+        }
+
+        /**
+         * Records subtracting minutes from the date.
+         *
+         * @param minutes num of minutes to subtract
+         * @return The recorder.
+         */
+        public Recorder subtractMinutes(int minutes) {
+            return shift(-(long) minutes * CivilTime.MILLIS_PER_MINUTE);
+        }
+
+        /**
+         * Records building the date in the specified time zone, see {@link DateBuilder#inTimeZone(String)}.
+         *
+         * @param zoneId the zone id, e.g. <code>America/New_York</code>
+         * @return The recorder.
+         * @throws java.lang.IllegalArgumentException When the zone id is not recognised.
+         */
+        public Recorder inTimeZone(String zoneId) {
+            return zone(ZoneTable.forId(zoneId));
+        }
+
+        /**
+         * Records building the date in the specified time zone, see {@link DateBuilder#inTimeZone(ZoneId)}.
+         *
+         * @param timeZone the time zone
+         * @return The recorder.
+         */
+        public Recorder inTimeZone(ZoneId timeZone) {
+            return zone(ZoneTable.forZone(timeZone));
+        }
+
+        /**
+         * Records building the date in the specified time zone, see {@link DateBuilder#inTimeZone(TimeZoneRules)}.
+         *
+         * @param rules the time zone's rules
+         * @return The recorder.
+         * @throws java.lang.IllegalArgumentException When the rules are null.
+         */
+        public Recorder inTimeZone(TimeZoneRules rules) {
+            return zone(ZoneTable.forRules(rules));
+        }
+
+        /**
+         * Builds the recipe. The recorder can keep recording afterwards without affecting it.
+         *
+         * @return The recipe.
+         */
+        public DateRecipe build() {
+            return new DateRecipe(Arrays.copyOf(ops, size), Arrays.copyOf(args, size), zones.clone());
+        }
+
+        private Recorder days(long numDays) {
+            if (zone.isFixed()) {
+                return shift(numDays * CivilTime.MILLIS_PER_DAY);
+            }
+            // A day landing in a gap moves the time of day, so day additions in zones with daylight saving time are
+            // applied one by one, as the builder does
+            append(DAYS, numDays);
+            return this;
+        }
+
+        private Recorder shift(long delta) {
+            if (size > 0 && ops[size - 1] == SHIFT) {
+                args[size - 1] += delta;
+            } else {
+                append(SHIFT, delta);
+            }
+            return this;
+        }
+
+        private Recorder zone(ZoneTable table) {
+            if (table == zone) {
+                return this;
+            }
+            zone = table;
+            zones = Arrays.copyOf(zones, zones.length + 1);
+            zones[zones.length - 1] = table;
+            append(ZONE, zones.length - 1);
+            return this;
+        }
+
+        private void append(int op, long arg) {
+            if (size == ops.length) {
+                ops = Arrays.copyOf(ops, size * 2);
+                args = Arrays.copyOf(args, size * 2);
+            }
+            ops[size] = op;
+            args[size] = arg;
+            size++;
+        }
+    }
+}
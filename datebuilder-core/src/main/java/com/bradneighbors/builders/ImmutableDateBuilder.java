@@ -0,0 +1,424 @@
+package com.bradneighbors.builders;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+/**
+ * An immutable {@link DateBuilder}: every operation returns a new builder and leaves the original untouched.
+ *
+ * <p>Instances are values holding an instant and a time zone, so they can be kept in static fields and shared
+ * between threads without locks. Each step of a chain creates one small object, which the JIT can usually
+ * eliminate when the chain ends in a primitive terminal such as {@link #buildMillis()}.</p>
+ *
+ * <p>
+ * Example:
+ * <code>static final ImmutableDateBuilder FISCAL_YEAR_START = ImmutableDateBuilder.MM_dd_yyyy("04_01_2012");</code>
+ * <code>Date endOfFirstQuarter = FISCAL_YEAR_START.addDays(90).build();</code>
+ * </p>
+ */
+public final class ImmutableDateBuilder implements Builder<Date> {
+
+    private final long millis;
+    private final ZoneTable zone;
+
+    ImmutableDateBuilder(long millis, ZoneTable zone) {
+        this.millis = millis;
+        this.zone = zone;
+    }
+
+    /**
+     * Gets a builder starting at the specified instant, in UTC.
+     *
+     * @param millis the epoch milliseconds
+     * @return The builder.
+     */
+    public static ImmutableDateBuilder ofMillis(long millis) {
+        return new ImmutableDateBuilder(millis, ZoneTable.UTC);
+    }
+
+    /**
+     * Gets a builder starting with current time.
+     *
+     * @return The builder.
+     */
+    public static ImmutableDateBuilder now() {
+        return DateBuilder.now().toImmutable();
+    }
+
+    /**
+     * Gets a builder starting with the current date at midnight exactly.
+     *
+     * @return The builder.
+     */
+    public static ImmutableDateBuilder today() {
+        return DateBuilder.today().toImmutable();
+    }
+
+    /**
+     * Gets a builder with starting date at the specified date at midnight, see {@link DateBuilder#MM_dd_yyyy(String)}.
+     *
+     * @param date the date string of format MM_DD_YYYY
+     * @return The builder.
+     * @throws java.lang.IllegalArgumentException When the supplied date string can't be converted to a date.
+     */
+    public static ImmutableDateBuilder MM_dd_yyyy(String date) {
+        return DateBuilder.MM_dd_yyyy(date).toImmutable();
+    }
+
+    /**
+     * Gets a builder with the date set to midnight exactly.
+     *
+     * @return The new builder.
+     */
+    public ImmutableDateBuilder atMidnightExactly() {
+        return withMillis(DateMath.atMidnight(zone, millis));
+    }
+
+    /**
+     * Gets a builder with days added to the date.
+     *
+     * @param numDays the number of days to add
+     * @return The new builder.
+     */
+    public ImmutableDateBuilder addDays(int numDays) {
+        return withMillis(DateMath.addDays(zone, millis, numDays));
+    }
+
+    /**
+     * Gets a builder with years added to the date.
+     *
+     * @param numYears the number of years to add
+     * @return The new builder.
+     */
+    public ImmutableDateBuilder addYears(int numYears) {
+        return withMillis(DateMath.addYears(zone, millis, numYears));
+    }
+
+    /**
+     * Gets a builder with days subtracted from the date.
+     *
+     * @param numDays the number of days to subtract
+     * @return The new builder.
+     */
+    public ImmutableDateBuilder subtractDays(int numDays) {
+        return withMillis(DateMath.addDays(zone, millis, -(long) numDays));
+    }
+
+    /**
+     * Gets a builder with the date in the specified year.
+     *
+     * @param year the year in which the date should occur
+     * @return The new builder.
+     */
+    public ImmutableDateBuilder inYear(int year) {
+        return withMillis(DateMath.inYear(zone, millis, year));
+    }
+
+    /**
+     * Gets a builder with the date in the specified month, one-based. (1=JAN, 2=FEB) etc.
+     *
+     * @param month the month, one-based
+     * @return The new builder.
+     */
+    public ImmutableDateBuilder inMonth(int month) {
+        return withMillis(DateMath.inMonth(zone, millis, month));
+    }
+
+    /**
+     * Gets a builder with the date on the specified day of the month.
+     *
+     * @param day the day of the month
+     * @return The new builder.
+     */
+    public ImmutableDateBuilder onDay(int day) {
+        return withMillis(DateMath.onDay(zone, millis, day));
+    }
+
+    /**
+     * Gets a builder with business days added to the date, see {@link DateBuilder#addBusinessDays(int, BusinessCalendar)}.
+     *
+     * @param numBusinessDays the number of business days to add, negative to subtract
+     * @param calendar        the calendar defining the business days
+     * @return The new builder.
+     * @throws java.lang.IllegalArgumentException When either date is outside the calendar's years.
+     */
+    public ImmutableDateBuilder addBusinessDays(int numBusinessDays, BusinessCalendar calendar) {
+        return withMillis(DateMath.addBusinessDays(zone, millis, calendar, numBusinessDays));
+    }
+
+    /**
+     * Gets a builder with the date on the first business day after the date, keeping the time of day.
+     *
+     * @param calendar the calendar defining the business days
+     * @return The new builder.
+     * @throws java.lang.IllegalArgumentException When either date is outside the calendar's years.
+     */
+    public ImmutableDateBuilder nextBusinessDay(BusinessCalendar calendar) {
+        return addBusinessDays(1, calendar);
+    }
+
+    /**
+     * Gets a builder with hours added to the date.
+     *
+     * @param hours the number of hours to add
+     * @return The new builder.
+     */
+    public ImmutableDateBuilder addHours(int hours) {
+        return withMillis(millis + hours * CivilTime.MILLIS_PER_HOUR);
+    }
+
+    /**
+     * Gets a builder with minutes subtracted from the date.
+     *
+     * @param minutes num of minutes to subtract
+     * @return The new builder.
+     */
+    public ImmutableDateBuilder subtractMinutes(int minutes) {
+        return withMillis(millis - minutes * CivilTime.MILLIS_PER_MINUTE);
+    }
+
+    /**
+     * Gets a builder for the same instant in the specified time zone, see {@link DateBuilder#inTimeZone(String)}.
+     *
+     * @param zoneId the zone id, e.g. <code>America/New_York</code>
+     * @return The new builder.
+     * @throws java.lang.IllegalArgumentException When the zone id is not recognised.
+     */
+    public ImmutableDateBuilder inTimeZone(String zoneId) {
+        return new ImmutableDateBuilder(millis, ZoneTable.forId(zoneId));
+    }
+
+    /**
+     * Gets a builder for the same instant in the specified time zone.
+     *
+     * @param timeZone the time zone
+     * @return The new builder.
+     */
+    public ImmutableDateBuilder inTimeZone(ZoneId timeZone) {
+        return new ImmutableDateBuilder(millis, ZoneTable.forZone(timeZone));
+    }
+
+    /**
+     * Gets a builder for the same instant in the specified time zone, see
+     * {@link DateBuilder#inTimeZone(TimeZoneRules)}.
+     *
+     * @param rules the time zone's rules
+     * @return The new builder.
+     * @throws java.lang.IllegalArgumentException When the rules are null.
+     */
+    public ImmutableDateBuilder inTimeZone(TimeZoneRules rules) {
+        return new ImmutableDateBuilder(millis, ZoneTable.forRules(rules));
+    }
+
+    /**
+     * Gets a mutable builder starting at this builder's instant and time zone.
+     *
+     * @return The mutable builder.
+     */
+    public DateBuilder toBuilder() {
+        return new DateBuilder(millis, zone);
+    }
+
+    public Date build() {
+        return new Date(millis);
+    }
+
+    /**
+     * Builds the date as a java.time instant.
+     *
+     * @return The instant.
+     */
+    public Instant buildInstant() {
+        return Instant.ofEpochMilli(millis);
+    }
+
+    /**
+     * Builds the date of the builder's time zone, without the time of day.
+     *
+     * @return The local date.
+     */
+    public LocalDate buildLocalDate() {
+        return LocalDate.ofEpochDay(DateMath.epochDay(zone, millis));
+    }
+
+    /**
+     * Builds the date with the offset of the builder's time zone in force at that instant.
+     *
+     * @return The offset date-time.
+     */
+    public OffsetDateTime buildOffsetDateTime() {
+        return OffsetDateTime.ofInstant(Instant.ofEpochMilli(millis),
+                ZoneOffset.ofTotalSeconds(zone.offsetAt(millis) / (int) CivilTime.MILLIS_PER_SECOND));
+    }
+
+    /**
+     * Builds the date as milliseconds since the epoch, without creating a {@link Date}.
+     *
+     * @return The milliseconds since 1970-01-01T00:00:00Z.
+     */
+    public long buildMillis() {
+        return millis;
+    }
+
+    /**
+     * Builds the date as whole seconds since the epoch, rounding towards negative infinity.
+     *
+     * @return The seconds since 1970-01-01T00:00:00Z.
+     */
+    public long buildEpochSecond() {
+        return Math.floorDiv(millis, CivilTime.MILLIS_PER_SECOND);
+    }
+
+    /**
+     * Builds the date as the number of whole days since the epoch in the builder's time zone,
+     * rounding towards negative infinity.
+     *
+     * @return The days since 1970-01-01.
+     */
+    public long buildEpochDay() {
+        return DateMath.epochDay(zone, millis);
+    }
+
+    /**
+     * Formats the date of the builder's time zone as MM_dd_yyyy, the format read by {@link #MM_dd_yyyy(String)}.
+     *
+     * @return The date, e.g. <code>08_29_1974</code>.
+     * @throws java.lang.IllegalArgumentException When the year is not between 0 and 9999.
+     */
+    public String formatMM_dd_yyyy() {
+        return DateFormatters.MM_dd_yyyy(zone, millis);
+    }
+
+    /**
+     * Appends the date of the builder's time zone as MM_dd_yyyy, without creating intermediate objects.
+     *
+     * @param out the builder to append to
+     * @return The string builder.
+     * @throws java.lang.IllegalArgumentException When the year is not between 0 and 9999.
+     */
+    public StringBuilder formatMM_dd_yyyy(StringBuilder out) {
+        return DateFormatters.MM_dd_yyyy(zone, millis, out);
+    }
+
+    /**
+     * Writes the date of the builder's time zone as the ten characters of MM_dd_yyyy, without allocating.
+     *
+     * @param chars  the array to write to
+     * @param offset the index of the first character to write
+     * @return The index after the last character written.
+     * @throws java.lang.IllegalArgumentException When the year is not between 0 and 9999.
+     * @throws java.lang.IndexOutOfBoundsException When the array has no room for the date at the offset.
+     */
+    public int formatMM_dd_yyyy(char[] chars, int offset) {
+        return DateFormatters.MM_dd_yyyy(zone, millis, chars, offset);
+    }
+
+    /**
+     * Writes the date of the builder's time zone as the ten ASCII bytes of MM_dd_yyyy at the buffer's position,
+     * advancing it, without allocating.
+     *
+     * @param out the buffer to write to
+     * @return The buffer.
+     * @throws java.lang.IllegalArgumentException When the year is not between 0 and 9999.
+     * @throws java.lang.IndexOutOfBoundsException When the buffer has no room for the date.
+     */
+    public ByteBuffer formatMM_dd_yyyy(ByteBuffer out) {
+        return DateFormatters.MM_dd_yyyy(zone, millis, out);
+    }
+
+    /**
+     * Formats the date and time of the builder's time zone as ISO-8601 with milliseconds and the offset in force,
+     * e.g. <code>1974-08-29T13:45:00.000Z</code> in UTC or <code>1974-08-29T09:45:00.000-04:00</code> in New York.
+     *
+     * @return The date and time.
+     * @throws java.lang.IllegalArgumentException When the year is not between 0 and 9999.
+     */
+    public String formatIso8601() {
+        return DateFormatters.iso8601(zone, millis);
+    }
+
+    /**
+     * Appends the date and time of the builder's time zone as ISO-8601, see {@link #formatIso8601()},
+     * without creating intermediate objects.
+     *
+     * @param out the builder to append to
+     * @return The string builder.
+     * @throws java.lang.IllegalArgumentException When the year is not between 0 and 9999.
+     */
+    public StringBuilder formatIso8601(StringBuilder out) {
+        return DateFormatters.iso8601(zone, millis, out);
+    }
+
+    /**
+     * Writes the date and time of the builder's time zone as ISO-8601, see {@link #formatIso8601()},
+     * without allocating. At most 32 characters are written.
+     *
+     * @param chars  the array to write to
+     * @param offset the index of the first character to write
+     * @return The index after the last character written.
+     * @throws java.lang.IllegalArgumentException When the year is not between 0 and 9999.
+     * @throws java.lang.IndexOutOfBoundsException When the array has no room for the date at the offset.
+     */
+    public int formatIso8601(char[] chars, int offset) {
+        return DateFormatters.iso8601(zone, millis, chars, offset);
+    }
+
+    /**
+     * Writes the date and time of the builder's time zone as ISO-8601 in ASCII at the buffer's position,
+     * advancing it, see {@link #formatIso8601()}, without allocating. At most 32 bytes are written.
+     *
+     * @param out the buffer to write to
+     * @return The buffer.
+     * @throws java.lang.IllegalArgumentException When the year is not between 0 and 9999.
+     * @throws java.lang.IndexOutOfBoundsException When the buffer has no room for the date.
+     */
+    public ByteBuffer formatIso8601(ByteBuffer out) {
+        return DateFormatters.iso8601(zone, millis, out);
+    }
+
+    /**
+     * Checks whether the date, in the builder's time zone, is a business day.
+     *
+     * @param calendar the calendar defining the business days
+     * @return Whether the date is a business day.
+     * @throws java.lang.IllegalArgumentException When the date is outside the calendar's years.
+     */
+    public boolean isBusinessDay(BusinessCalendar calendar) {
+        return calendar.isBusinessDay(DateMath.epochDay(zone, millis));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ImmutableDateBuilder)) {
+            return false;
+        }
+        ImmutableDateBuilder other = (ImmutableDateBuilder) o;
+        return millis == other.millis && zone.id().equals(other.zone.id());
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(millis) + zone.id().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return buildOffsetDateTime().toString();
+    }
+
+    private ImmutableDateBuilder withMillis(long newMillis) {
+        return newMillis == millis ? this : new ImmutableDateBuilder(newMillis, zone);
+    }
+
+    ZoneTable zone() {
+        return zone;
+    }
+}
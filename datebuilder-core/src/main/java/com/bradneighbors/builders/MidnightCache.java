@@ -0,0 +1,48 @@
+package com.bradneighbors.builders;
+
+/**
+ * Remembers the UTC midnight starting the current day, so finding the midnight of a clock reading is a read and a
+ * comparison until the clock crosses into another day.
+ *
+ * <p>Only readings of the system clock, directly or through a {@link CoarseTimeSource}, go through the cache: they
+ * agree on the current day, apart from a coarse source lagging by up to one tick at midnight. Fixed, offset and
+ * scaled time sources can each be on a different day and would keep overwriting each other's midnight, so theirs is
+ * computed every time.</p>
+ *
+ * <p>Safe to share between threads: the midnight is a single volatile long, and a racing write can at worst cost
+ * the next reading a recomputation.</p>
+ */
+final class MidnightCache {
+
+    private volatile long midnight;
+
+    /**
+     * @param source the time source to read
+     * @return the UTC midnight at or before the current time of the source
+     */
+    long midnightOf(TimeSource source) {
+        long now = source.currentTimeMillis();
+        if (source == TimeSources.SYSTEM || source instanceof CoarseTimeSource) {
+            return midnightOf(now);
+        }
+        return midnight(now);
+    }
+
+    /**
+     * @param now epoch milliseconds, typically the current time
+     * @return the UTC midnight at or before the instant
+     */
+    long midnightOf(long now) {
+        long cached = midnight;
+        if (now >= cached && now - cached < CivilTime.MILLIS_PER_DAY) {
+            return cached;
+        }
+        long refreshed = midnight(now);
+        midnight = refreshed;
+        return refreshed;
+    }
+
+    private static long midnight(long instant) {
+        return Math.floorDiv(instant, CivilTime.MILLIS_PER_DAY) * CivilTime.MILLIS_PER_DAY;
+    }
+}
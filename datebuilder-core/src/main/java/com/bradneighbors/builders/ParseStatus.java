@@ -0,0 +1,106 @@
+package com.bradneighbors.builders;
+
+/**
+ * Decodes the results of the non-throwing parsers such as {@link DateBuilder#tryMM_dd_yyyy(CharSequence)}.
+ *
+ * <p>A result is either the parsed epoch milliseconds or a failure packed into the same <code>long</code>,
+ * holding an error code and the character offset at which parsing failed. Failures sit at the very bottom of the
+ * <code>long</code> range, hundreds of millions of years before any date a parser can produce, so telling them
+ * apart costs a single comparison.</p>
+ *
+ * <p>
+ * Example:
+ * <code>long millis = tryMM_dd_yyyy(text);
+ * if (ParseStatus.isFailure(millis)) { log(ParseStatus.errorCode(millis), ParseStatus.errorOffset(millis)); }</code>
+ * </p>
+ */
+public final class ParseStatus {
+
+    /**
+     * The text is shorter or longer than the format.
+     */
+    public static final int WRONG_LENGTH = 1;
+
+    /**
+     * A character where the format expects a digit is not one.
+     */
+    public static final int NOT_A_DIGIT = 2;
+
+    /**
+     * A character where the format expects a separator is not the separator.
+     */
+    public static final int MISSING_SEPARATOR = 3;
+
+    /**
+     * The month is not between 1 and 12.
+     */
+    public static final int MONTH_OUT_OF_RANGE = 4;
+
+    /**
+     * The day is not within the month.
+     */
+    public static final int DAY_OUT_OF_RANGE = 5;
+
+    /**
+     * The text is in none of the formats recognised by {@link DateFormatDetector}.
+     */
+    public static final int UNKNOWN_FORMAT = 6;
+
+    private static final long FAILURE_LIMIT = Long.MIN_VALUE + (1L << 40);
+
+    private ParseStatus() {
+    }
+
+    /**
+     * @param result the value returned by a non-throwing parser
+     * @return whether the parse failed
+     */
+    public static boolean isFailure(long result) {
+        return result < FAILURE_LIMIT;
+    }
+
+    /**
+     * @param result the value returned by a non-throwing parser
+     * @return one of the error code constants of this class, or zero if the parse succeeded
+     */
+    public static int errorCode(long result) {
+        return isFailure(result) ? (int) (result >>> 32) & 0xFF : 0;
+    }
+
+    /**
+     * @param result the value returned by a non-throwing parser
+     * @return the offset in the input at which parsing failed, or -1 if the parse succeeded
+     */
+    public static int errorOffset(long result) {
+        return isFailure(result) ? (int) result : -1;
+    }
+
+    /**
+     * @param result the value returned by a non-throwing parser
+     * @return a readable description of the failure
+     */
+    public static String describe(long result) {
+        switch (errorCode(result)) {
+            case 0:
+                return "no failure";
+            case WRONG_LENGTH:
+                return "wrong length at offset " + errorOffset(result);
+            case NOT_A_DIGIT:
+                return "not a digit at offset " + errorOffset(result);
+            case MISSING_SEPARATOR:
+                return "missing separator at offset " + errorOffset(result);
+            case MONTH_OUT_OF_RANGE:
+                return "month out of range at offset " + errorOffset(result);
+            case DAY_OUT_OF_RANGE:
+                return "day out of range at offset " + errorOffset(result);
+            case UNKNOWN_FORMAT:
+                return "unknown format";
+            default:
+                return "error " + errorCode(result) + " at offset " + errorOffset(result);
+        }
+    }
+
+    static long failure(int errorCode, int offset) {
+        return Long.MIN_VALUE | (long) errorCode << 32 | offset;
+    }
+}
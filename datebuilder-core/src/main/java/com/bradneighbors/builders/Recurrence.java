@@ -0,0 +1,696 @@
+package com.bradneighbors.builders;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The occurrences of an RFC 5545 recurrence rule, such as <code>FREQ=MONTHLY;BYDAY=2TU</code>, starting from a
+ * builder's date and time, as epoch milliseconds.
+ *
+ * <p>The rule parts FREQ (DAILY, WEEKLY, MONTHLY or YEARLY), INTERVAL, COUNT, UNTIL, BYMONTH, BYMONTHDAY, BYDAY,
+ * BYSETPOS and WKST are supported; every occurrence has the time of day of the start. Occurrences are found on the
+ * wall-clock of the start builder's time zone, so they keep their local time across daylight saving time.</p>
+ *
+ * <p>The candidate days of each period are computed as bit masks of at most 31 days, a month or a week at a time,
+ * so finding an occurrence allocates nothing. {@link #next(long)} jumps straight to the period holding the instant
+ * instead of enumerating the earlier occurrences, except for rules with a COUNT, whose occurrences must be counted
+ * from the start. Recurrences are immutable and safe to share between threads.</p>
+ *
+ * <p>
+ * Example:
+ * <code>Recurrence secondTuesdays = Recurrence.parse("FREQ=MONTHLY;BYDAY=2TU", MM_dd_yyyy("01_01_2012").addHours(9));</code>
+ * <code>Recurrence monthEnds = Recurrence.parse("FREQ=MONTHLY;BYDAY=MO,TU,WE,TH,FR;BYSETPOS=-1", start)
+ * .onBusinessDays(calendar);</code>
+ * </p>
+ */
+public final class Recurrence {
+
+    /**
+     * Returned by {@link #first()} and {@link #next(long)} when there are no more occurrences.
+     */
+    public static final long NONE = Long.MIN_VALUE;
+
+    private static final int DAILY = 0;
+    private static final int WEEKLY = 1;
+    private static final int MONTHLY = 2;
+    private static final int YEARLY = 3;
+
+    private static final String[] FREQUENCIES = {"DAILY", "WEEKLY", "MONTHLY", "YEARLY"};
+    private static final String[] WEEKDAYS = {"MO", "TU", "WE", "TH", "FR", "SA", "SU"};
+
+    /**
+     * Bits 0, 7, 14, ... 63: the days of a month falling on the same day of the week as its first day.
+     */
+    private static final long EVERY_7TH_DAY = 0x8102040810204081L;
+
+    private static final long NO_DAY = Long.MIN_VALUE;
+
+    private final int frequency;
+    /**
+     * A long, so that <code>Math.floorDiv(long, long)</code> is called; the <code>(long, int)</code> overload is
+     * missing from Java 8.
+     */
+    private final long interval;
+    private final int count;
+    private final long until;
+    /**
+     * Bit <code>m</code> is set for each month <code>m</code> of BYMONTH, or 0 if there is no BYMONTH.
+     */
+    private final int months;
+    private final int[] monthDays;
+    /**
+     * The days of the week of BYDAY, 0 for Monday, and their ordinals, 0 for every such day of the period.
+     */
+    private final int[] weekdays;
+    private final int[] ordinals;
+    private final int[] setPositions;
+    private final int weekStart;
+    private final ZoneTable zone;
+    private final long startMillis;
+    private final long startDay;
+    private final long millisOfDay;
+    private final BusinessCalendar calendar;
+
+    private Recurrence(int frequency, long interval, int count, long until, int months, int[] monthDays,
+                       int[] weekdays, int[] ordinals, int[] setPositions, int weekStart, ZoneTable zone,
+                       long startMillis, BusinessCalendar calendar) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.until = until;
+        this.months = months;
+        this.monthDays = monthDays;
+        this.weekdays = weekdays;
+        this.ordinals = ordinals;
+        this.setPositions = setPositions;
+        this.weekStart = weekStart;
+        this.zone = zone;
+        this.startMillis = startMillis;
+        this.startDay = DateMath.epochDay(zone, startMillis);
+        this.millisOfDay = zone.toLocal(startMillis) - startDay * CivilTime.MILLIS_PER_DAY;
+        this.calendar = calendar;
+    }
+
+    /**
+     * Parses a recurrence rule starting at the builder's current date and time, in the builder's time zone.
+     *
+     * @param rule  the rule, e.g. <code>FREQ=WEEKLY;INTERVAL=2;BYDAY=TU</code>, optionally prefixed with
+     *              <code>RRULE:</code>
+     * @param start the builder holding the start of the recurrence
+     * @return The recurrence.
+     * @throws java.lang.IllegalArgumentException When the rule is malformed or uses unsupported rule parts.
+     */
+    public static Recurrence parse(String rule, DateBuilder start) {
+        return parse(rule, start.zone(), start.buildMillis());
+    }
+
+    /**
+     * Parses a recurrence rule starting at the builder's date and time, in the builder's time zone.
+     *
+     * @param rule  the rule, e.g. <code>FREQ=WEEKLY;INTERVAL=2;BYDAY=TU</code>, optionally prefixed with
+     *              <code>RRULE:</code>
+     * @param start the builder holding the start of the recurrence
+     * @return The recurrence.
+     * @throws java.lang.IllegalArgumentException When the rule is malformed or uses unsupported rule parts.
+     */
+    public static Recurrence parse(String rule, ImmutableDateBuilder start) {
+        return parse(rule, start.zone(), start.buildMillis());
+    }
+
+    /**
+     * Gets a recurrence whose occurrences are limited to business days, applied before BYSETPOS.
+     * For example, <code>FREQ=MONTHLY;BYDAY=MO,TU,WE,TH,FR;BYSETPOS=-1</code> on business days is the last business
+     * day of every month. Finding an occurrence outside the calendar's years throws an IllegalArgumentException.
+     *
+     * @param businessDays the calendar defining the business days
+     * @return The new recurrence.
+     */
+    public Recurrence onBusinessDays(BusinessCalendar businessDays) {
+        return new Recurrence(frequency, interval, count, until, months, monthDays, weekdays, ordinals, setPositions,
+                weekStart, zone, startMillis, businessDays);
+    }
+
+    /**
+     * @return The epoch milliseconds of the first occurrence, at or after the start, or {@link #NONE}.
+     */
+    public long first() {
+        return count == 0 ? NONE : following(startMillis - 1L);
+    }
+
+    /**
+     * Finds the first occurrence after an instant, without enumerating the occurrences before it unless the rule
+     * has a COUNT.
+     *
+     * @param afterMillis the epoch milliseconds to search after
+     * @return The epoch milliseconds of the first occurrence strictly after the instant, or {@link #NONE}.
+     */
+    public long next(long afterMillis) {
+        if (count < 0) {
+            return following(afterMillis);
+        }
+        long millis = first();
+        for (int n = 0; n < count && millis != NONE; n++) {
+            if (millis > afterMillis) {
+                return millis;
+            }
+            millis = following(millis);
+        }
+        return NONE;
+    }
+
+    /**
+     * Generates the occurrences lazily, in order. Without COUNT or UNTIL the stream is infinite.
+     *
+     * @return The epoch milliseconds of each occurrence.
+     */
+    public LongStream occurrences() {
+        return stream(new Occurrences(first(), count));
+    }
+
+    /**
+     * Generates the occurrences after an instant lazily, in order.
+     *
+     * @param afterMillis the epoch milliseconds to start after
+     * @return The epoch milliseconds of each occurrence strictly after the instant.
+     */
+    public LongStream occurrencesAfter(long afterMillis) {
+        if (count >= 0) {
+            return occurrences().filter(millis -> millis > afterMillis);
+        }
+        return stream(new Occurrences(following(afterMillis), -1));
+    }
+
+    private static LongStream stream(PrimitiveIterator.OfLong iterator) {
+        return StreamSupport.longStream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED
+                | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    /**
+     * @return The first occurrence after the instant, ignoring COUNT.
+     */
+    private long following(long afterMillis) {
+        long day = nextDay(DateMath.epochDay(zone, afterMillis));
+        if (day == NO_DAY) {
+            return NONE;
+        }
+        long millis = atDay(day);
+        if (millis <= afterMillis) {
+            day = nextDay(day + 1);
+            if (day == NO_DAY) {
+                return NONE;
+            }
+            millis = atDay(day);
+        }
+        return millis <= until ? millis : NONE;
+    }
+
+    private long atDay(long day) {
+        return zone.toUtc(day * CivilTime.MILLIS_PER_DAY + millisOfDay);
+    }
+
+    /**
+     * @return The first day of an occurrence at or after the day, or NO_DAY.
+     */
+    private long nextDay(long minDay) {
+        minDay = Math.max(minDay, startDay);
+        long lastDay = until == Long.MAX_VALUE ? Long.MAX_VALUE : DateMath.epochDay(zone, until);
+        // The Gregorian calendar repeats every 400 years, so a rule without a match in that many periods never matches.
+        // Rules ruled out by their BY* parts alone end when parsed; this bounds the rest, such as BYSETPOS=-6 with
+        // BYDAY=MO in a monthly rule
+        long giveUp = minDay + CivilTime.DAYS_PER_400_YEARS * interval;
+        for (long period = Math.max(0L, periodOf(minDay)); ; period++) {
+            long periodStart = segmentStart(period, 0);
+            if (periodStart > lastDay || periodStart > giveUp) {
+                return NO_DAY;
+            }
+            long day = selectInPeriod(period, minDay);
+            if (day != NO_DAY) {
+                return day;
+            }
+        }
+    }
+
+    private long periodOf(long day) {
+        switch (frequency) {
+            case DAILY:
+                return Math.floorDiv(day - startDay, interval);
+            case WEEKLY:
+                return Math.floorDiv(Math.floorDiv(weekOf(day) - weekOf(startDay), 7L), interval);
+            case MONTHLY:
+                return Math.floorDiv(monthIndex(day) - monthIndex(startDay), interval);
+            default:
+                return Math.floorDiv(CivilTime.yearOf(CivilTime.civilFromDays(day))
+                        - CivilTime.yearOf(CivilTime.civilFromDays(startDay)), interval);
+        }
+    }
+
+    private long selectInPeriod(long period, long minDay) {
+        int segments = frequency == YEARLY ? 12 : 1;
+        if (setPositions.length == 0) {
+            for (int s = 0; s < segments; s++) {
+                long base = segmentStart(period, s);
+                long mask = segmentMask(period, s, base);
+                if (minDay > base) {
+                    mask = minDay - base >= 64 ? 0L : mask & -1L << (minDay - base);
+                }
+                if (mask != 0) {
+                    return base + Long.numberOfTrailingZeros(mask);
+                }
+            }
+            return NO_DAY;
+        }
+        int total = 0;
+        for (int s = 0; s < segments; s++) {
+            total += Long.bitCount(segmentMask(period, s, segmentStart(period, s)));
+        }
+        long best = NO_DAY;
+        for (int position : setPositions) {
+            int index = position > 0 ? position - 1 : total + position;
+            if (index < 0 || index >= total) {
+                continue;
+            }
+            long day = dayAt(period, segments, index);
+            if (day >= minDay && (best == NO_DAY || day < best)) {
+                best = day;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @return The candidate day of the period with the given number of candidate days before it.
+     */
+    private long dayAt(long period, int segments, int index) {
+        for (int s = 0; s < segments; s++) {
+            long base = segmentStart(period, s);
+            long mask = segmentMask(period, s, base);
+            int bits = Long.bitCount(mask);
+            if (index < bits) {
+                for (; index > 0; index--) {
+                    mask &= mask - 1L;
+                }
+                return base + Long.numberOfTrailingZeros(mask);
+            }
+            index -= bits;
+        }
+        return NO_DAY;
+    }
+
+    /**
+     * A period is a day, a week, a month, or a year made of twelve monthly segments.
+     *
+     * @return The first day of a segment of the period.
+     */
+    private long segmentStart(long period, int segment) {
+        switch (frequency) {
+            case DAILY:
+                return startDay + period * interval;
+            case WEEKLY:
+                return weekOf(startDay) + 7L * period * interval;
+            case MONTHLY:
+                long month = monthIndex(startDay) + period * interval;
+                return CivilTime.daysFromCivil(DateMath.checkYear(Math.floorDiv(month, 12L)),
+                        (int) Math.floorMod(month, 12L) + 1, 1);
+            default:
+                long year = CivilTime.yearOf(CivilTime.civilFromDays(startDay)) + period * interval;
+                return CivilTime.daysFromCivil(DateMath.checkYear(year), segment + 1, 1);
+        }
+    }
+
+    /**
+     * @return Bit <code>i</code> is set if <code>base + i</code> is a candidate day of the segment.
+     */
+    private long segmentMask(long period, int segment, long base) {
+        long mask;
+        switch (frequency) {
+            case DAILY:
+                mask = matchesDay(base) ? 1L : 0L;
+                break;
+            case WEEKLY:
+                mask = weekMask(base);
+                break;
+            default:
+                mask = monthMask(base);
+                break;
+        }
+        if (calendar != null && mask != 0) {
+            for (long bits = mask; bits != 0; bits &= bits - 1L) {
+                int offset = Long.numberOfTrailingZeros(bits);
+                if (!calendar.isBusinessDay(base + offset)) {
+                    mask &= ~(1L << offset);
+                }
+            }
+        }
+        return mask;
+    }
+
+    private boolean matchesDay(long day) {
+        long date = CivilTime.civilFromDays(day);
+        int month = CivilTime.monthOf(date);
+        if (months != 0 && (months & 1 << month) == 0) {
+            return false;
+        }
+        if (weekdays.length > 0 && !hasWeekday(dayOfWeek(day))) {
+            return false;
+        }
+        if (monthDays.length > 0) {
+            int dayOfMonth = CivilTime.dayOf(date);
+            int length = CivilTime.lengthOfMonth(CivilTime.yearOf(date), month);
+            for (int monthDay : monthDays) {
+                if (monthDay == dayOfMonth || monthDay == dayOfMonth - length - 1) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private long weekMask(long weekStartDay) {
+        long mask = 0L;
+        if (weekdays.length == 0) {
+            mask = 1L << Math.floorMod(dayOfWeek(startDay) - weekStart, 7);
+        } else {
+            for (int weekday : weekdays) {
+                mask |= 1L << Math.floorMod(weekday - weekStart, 7);
+            }
+        }
+        if (months != 0) {
+            for (long bits = mask; bits != 0; bits &= bits - 1L) {
+                int offset = Long.numberOfTrailingZeros(bits);
+                if ((months & 1 << CivilTime.monthOf(CivilTime.civilFromDays(weekStartDay + offset))) == 0) {
+                    mask &= ~(1L << offset);
+                }
+            }
+        }
+        return mask;
+    }
+
+    private long monthMask(long firstDay) {
+        long date = CivilTime.civilFromDays(firstDay);
+        int year = CivilTime.yearOf(date);
+        int month = CivilTime.monthOf(date);
+        if (months != 0 && (months & 1 << month) == 0) {
+            return 0L;
+        }
+        int length = CivilTime.lengthOfMonth(year, month);
+        long daysOfMonth = (1L << length) - 1L;
+        if (monthDays.length == 0 && weekdays.length == 0) {
+            int day = CivilTime.dayOf(CivilTime.civilFromDays(startDay));
+            return day <= length ? 1L << day - 1 : 0L;
+        }
+        long byMonthDay = 0L;
+        for (int monthDay : monthDays) {
+            int offset = monthDay > 0 ? monthDay - 1 : length + monthDay;
+            if (offset >= 0 && offset < length) {
+                byMonthDay |= 1L << offset;
+            }
+        }
+        long byDay = 0L;
+        for (int i = 0; i < weekdays.length; i++) {
+            if (ordinals[i] == 0) {
+                byDay |= EVERY_7TH_DAY << Math.floorMod(weekdays[i] - dayOfWeek(firstDay), 7) & daysOfMonth;
+            } else if (frequency == YEARLY && months == 0) {
+                long yearStart = CivilTime.daysFromCivil(year, 1, 1);
+                long day = nthWeekday(yearStart, CivilTime.isLeapYear(year) ? 366 : 365, weekdays[i], ordinals[i]);
+                if (day >= firstDay && day < firstDay + length) {
+                    byDay |= 1L << (day - firstDay);
+                }
+            } else {
+                long day = nthWeekday(firstDay, length, weekdays[i], ordinals[i]);
+                if (day != NO_DAY) {
+                    byDay |= 1L << (day - firstDay);
+                }
+            }
+        }
+        if (monthDays.length == 0) {
+            return byDay;
+        }
+        return weekdays.length == 0 ? byMonthDay : byMonthDay & byDay;
+    }
+
+    /**
+     * @return The n-th given day of the week of a span of days, counting from its end if n is negative, or NO_DAY.
+     */
+    private static long nthWeekday(long firstDay, int length, int weekday, int n) {
+        int first = Math.floorMod(weekday - dayOfWeek(firstDay), 7);
+        int offset = n > 0 ? first + 7 * (n - 1) : first + 7 * ((length - 1 - first) / 7) + 7 * (n + 1);
+        return offset >= 0 && offset < length ? firstDay + offset : NO_DAY;
+    }
+
+    private boolean hasWeekday(int weekday) {
+        for (int w : weekdays) {
+            if (w == weekday) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long weekOf(long day) {
+        return day - Math.floorMod(dayOfWeek(day) - weekStart, 7);
+    }
+
+    private static long monthIndex(long day) {
+        long date = CivilTime.civilFromDays(day);
+        return CivilTime.yearOf(date) * 12L + CivilTime.monthOf(date) - 1;
+    }
+
+    /**
+     * @return The day of the week, 0 for Monday.
+     */
+    private static int dayOfWeek(long day) {
+        // Epoch day 0 was a Thursday
+        return (int) Math.floorMod(day + 3, 7L);
+    }
+
+    private static Recurrence parse(String rule, ZoneTable zone, long startMillis) {
+        String parts = rule.startsWith("RRULE:") ? rule.substring("RRULE:".length()) : rule;
+        int frequency = -1;
+        int interval = 1;
+        int count = -1;
+        long until = Long.MAX_VALUE;
+        int months = 0;
+        int[] monthDays = new int[0];
+        int[] weekdays = new int[0];
+        int[] ordinals = new int[0];
+        int[] setPositions = new int[0];
+        int weekStart = 0;
+        for (String part : parts.split(";")) {
+            int equals = part.indexOf('=');
+            if (equals < 1) {
+                throw new IllegalArgumentException("Malformed rule part '" + part + "' in " + rule);
+            }
+            String name = part.substring(0, equals);
+            String value = part.substring(equals + 1);
+            String[] values = value.split(",");
+            switch (name) {
+                case "FREQ":
+                    frequency = Arrays.asList(FREQUENCIES).indexOf(value);
+                    if (frequency < 0) {
+                        throw new IllegalArgumentException("Unsupported frequency " + value + " in " + rule);
+                    }
+                    break;
+                case "INTERVAL":
+                    interval = number(value, 1, Integer.MAX_VALUE, rule);
+                    break;
+                case "COUNT":
+                    count = number(value, 0, Integer.MAX_VALUE, rule);
+                    break;
+                case "UNTIL":
+                    until = until(value, zone, rule);
+                    break;
+                case "BYMONTH":
+                    for (String month : values) {
+                        months |= 1 << number(month, 1, 12, rule);
+                    }
+                    break;
+                case "BYMONTHDAY":
+                    monthDays = new int[values.length];
+                    for (int i = 0; i < values.length; i++) {
+                        monthDays[i] = nonZero(number(values[i], -31, 31, rule), rule);
+                    }
+                    break;
+                case "BYDAY":
+                    weekdays = new int[values.length];
+                    ordinals = new int[values.length];
+                    for (int i = 0; i < values.length; i++) {
+                        String day = values[i];
+                        int split = day.length() - 2;
+                        weekdays[i] = weekday(day.substring(Math.max(0, split)), rule);
+                        ordinals[i] = split > 0 ? nonZero(number(day.substring(0, split), -53, 53, rule), rule) : 0;
+                    }
+                    break;
+                case "BYSETPOS":
+                    setPositions = new int[values.length];
+                    for (int i = 0; i < values.length; i++) {
+                        setPositions[i] = nonZero(number(values[i], -366, 366, rule), rule);
+                    }
+                    break;
+                case "WKST":
+                    weekStart = weekday(value, rule);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported rule part " + name + " in " + rule);
+            }
+        }
+        if (frequency < 0) {
+            throw new IllegalArgumentException("Missing FREQ in " + rule);
+        }
+        if (count >= 0 && until != Long.MAX_VALUE) {
+            throw new IllegalArgumentException("COUNT and UNTIL can't both be used in " + rule);
+        }
+        if (frequency == WEEKLY && monthDays.length > 0) {
+            throw new IllegalArgumentException("BYMONTHDAY can't be used with WEEKLY in " + rule);
+        }
+        if (frequency <= WEEKLY) {
+            for (int ordinal : ordinals) {
+                if (ordinal != 0) {
+                    throw new IllegalArgumentException("BYDAY ordinals need MONTHLY or YEARLY in " + rule);
+                }
+            }
+        } else if (frequency == MONTHLY || months != 0) {
+            for (int ordinal : ordinals) {
+                if (Math.abs(ordinal) > 5) {
+                    throw new IllegalArgumentException("BYDAY ordinals within a month must be 1 to 5 in " + rule);
+                }
+            }
+        }
+        long startDate = CivilTime.civilFromDays(DateMath.epochDay(zone, startMillis));
+        if (frequency == YEARLY && months == 0 && monthDays.length == 0 && weekdays.length == 0) {
+            months = 1 << CivilTime.monthOf(startDate);
+        }
+        if (neverMatches(frequency, months, monthDays, weekdays, setPositions, CivilTime.dayOf(startDate))) {
+            // Like COUNT=0, so that every search ends at once instead of looking 400 years ahead
+            count = 0;
+        }
+        return new Recurrence(frequency, interval, count, until, months, monthDays, weekdays, ordinals,
+                setPositions, weekStart, zone, startMillis, null);
+    }
+
+    /**
+     * Finds rules whose BY* parts rule out every day of every period, such as the 31st of February or the second
+     * occurrence of a daily rule.
+     */
+    private static boolean neverMatches(int frequency, int months, int[] monthDays, int[] weekdays,
+                                        int[] setPositions, int startDayOfMonth) {
+        int[] days = frequency >= MONTHLY && monthDays.length == 0 && weekdays.length == 0
+                ? new int[]{startDayOfMonth} : monthDays;
+        if (days.length > 0) {
+            boolean possible = false;
+            for (int day : days) {
+                for (int month = 1; month <= 12; month++) {
+                    // 2000 is a leap year, so these are the longest lengths of the months
+                    if ((months == 0 || (months & 1 << month) != 0)
+                            && Math.abs(day) <= CivilTime.lengthOfMonth(2000, month)) {
+                        possible = true;
+                    }
+                }
+            }
+            if (!possible) {
+                return true;
+            }
+        }
+        if (setPositions.length > 0) {
+            int weekdayBits = 0;
+            for (int weekday : weekdays) {
+                weekdayBits |= 1 << weekday;
+            }
+            int mostPerPeriod = frequency == DAILY ? 1
+                    : frequency == WEEKLY ? Math.max(Integer.bitCount(weekdayBits), 1)
+                    : frequency == MONTHLY ? 31 : 366;
+            for (int position : setPositions) {
+                if (Math.abs(position) <= mostPerPeriod) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static int number(String value, int min, int max, String rule) {
+        int number;
+        try {
+            number = Integer.parseInt(value.startsWith("+") ? value.substring(1) : value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not a number: '" + value + "' in " + rule, e);
+        }
+        if (number < min || number > max) {
+            throw new IllegalArgumentException(number + " is not between " + min + " and " + max + " in " + rule);
+        }
+        return number;
+    }
+
+    private static int nonZero(int number, String rule) {
+        if (number == 0) {
+            throw new IllegalArgumentException("0 is not allowed in " + rule);
+        }
+        return number;
+    }
+
+    private static int weekday(String value, String rule) {
+        int weekday = Arrays.asList(WEEKDAYS).indexOf(value);
+        if (weekday < 0) {
+            throw new IllegalArgumentException("Unknown day of the week '" + value + "' in " + rule);
+        }
+        return weekday;
+    }
+
+    /**
+     * Parses UNTIL as a date, inclusive, or a date and time, in UTC when suffixed with Z and otherwise local.
+     */
+    private static long until(String value, ZoneTable zone, String rule) {
+        boolean utc = value.endsWith("Z");
+        String local = utc ? value.substring(0, value.length() - 1) : value;
+        if (local.length() != 8 && (local.length() != 15 || local.charAt(8) != 'T')) {
+            throw new IllegalArgumentException("UNTIL must be yyyyMMdd or yyyyMMdd'T'HHmmss[Z] in " + rule);
+        }
+        int year = number(local.substring(0, 4), 0, 9999, rule);
+        int month = number(local.substring(4, 6), 1, 12, rule);
+        int day = number(local.substring(6, 8), 1, CivilTime.lengthOfMonth(year, month), rule);
+        long epochDay = CivilTime.daysFromCivil(year, month, day);
+        if (local.length() == 8) {
+            return zone.toUtc((epochDay + 1) * CivilTime.MILLIS_PER_DAY) - 1L;
+        }
+        long time = number(local.substring(9, 11), 0, 23, rule) * CivilTime.MILLIS_PER_HOUR
+                + number(local.substring(11, 13), 0, 59, rule) * CivilTime.MILLIS_PER_MINUTE
+                + number(local.substring(13, 15), 0, 60, rule) * CivilTime.MILLIS_PER_SECOND;
+        long millis = epochDay * CivilTime.MILLIS_PER_DAY + time;
+        return utc ? millis : zone.toUtc(millis);
+    }
+
+    private final class Occurrences implements PrimitiveIterator.OfLong {
+
+        private long next;
+        private int remaining;
+
+        Occurrences(long next, int remaining) {
+            this.next = next;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != NONE && remaining != 0;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            long current = next;
+            if (remaining > 0) {
+                remaining--;
+            }
+            next = remaining == 0 ? NONE : following(current);
+            return current;
+        }
+    }
+}
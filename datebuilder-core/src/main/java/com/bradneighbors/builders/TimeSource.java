@@ -0,0 +1,78 @@
+package com.bradneighbors.builders;
+
+/**
+ * Where {@link DateBuilder#now()}, {@link DateBuilder#today()}, {@link DateBuilder#yesterday()} and
+ * {@link DateBuilder#tomorrow()} get the current time from.
+ *
+ * <p>The default is the system clock. Set another for every builder with
+ * {@link DateBuilder#useTimeSource(TimeSource)}, or pass one to a single factory call such as
+ * {@link DateBuilder#now(TimeSource)}.</p>
+ *
+ * <p>Examples:</p>
+ * <ul>
+ * <li><code>DateBuilder.useTimeSource(TimeSource.coarse(10));</code></li>
+ * <li><code>Date frozen = now(TimeSource.fixed(146966400000L)).build();</code></li>
+ * <li><code>TimeSource replay = TimeSource.scaled(TimeSource.system(), recordingStartMillis, 60.0);</code></li>
+ * </ul>
+ */
+public interface TimeSource {
+
+    /**
+     * @return The current time in milliseconds since the epoch.
+     */
+    long currentTimeMillis();
+
+    /**
+     * Gets the system clock.
+     *
+     * @return The time source.
+     */
+    static TimeSource system() {
+        return TimeSources.SYSTEM;
+    }
+
+    /**
+     * Gets a time source that always returns the same instant.
+     *
+     * @param millis the epoch milliseconds to return
+     * @return The time source.
+     */
+    static TimeSource fixed(long millis) {
+        return new TimeSources.Fixed(millis);
+    }
+
+    /**
+     * Gets a time source that runs a constant amount ahead of, or behind, another.
+     *
+     * @param base         the time source to follow
+     * @param offsetMillis the milliseconds to add to the base time, negative to run behind
+     * @return The time source.
+     */
+    static TimeSource offset(TimeSource base, long offsetMillis) {
+        return new TimeSources.Offset(base, offsetMillis);
+    }
+
+    /**
+     * Gets a time source that starts at an instant and then runs faster or slower than another,
+     * e.g. to replay recorded traffic at accelerated time.
+     *
+     * @param base        the time source whose progress is scaled
+     * @param startMillis the epoch milliseconds the new time source starts at
+     * @param rate        how many milliseconds pass for each millisecond of the base, e.g. 60.0 for a minute a second
+     * @return The time source.
+     */
+    static TimeSource scaled(TimeSource base, long startMillis, double rate) {
+        return new TimeSources.Scaled(base, startMillis, rate);
+    }
+
+    /**
+     * Starts a time source that reads the system clock on a background thread every tick and otherwise
+     * returns the last reading, trading precision for a cheaper read. Close it to stop the thread.
+     *
+     * @param tickMillis how often to read the system clock, at least 1
+     * @return The time source.
+     */
+    static CoarseTimeSource coarse(long tickMillis) {
+        return new CoarseTimeSource(tickMillis);
+    }
+}
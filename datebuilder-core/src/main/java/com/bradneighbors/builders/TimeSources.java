@@ -0,0 +1,70 @@
+package com.bradneighbors.builders;
+
+/**
+ * The simple {@link TimeSource} implementations.
+ */
+final class TimeSources {
+
+    static final TimeSource SYSTEM = new TimeSource() {
+        @Override
+        public long currentTimeMillis() {
+            return System.currentTimeMillis();
+        }
+    };
+
+    private TimeSources() {
+    }
+
+    static final class Fixed implements TimeSource {
+
+        private final long millis;
+
+        Fixed(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public long currentTimeMillis() {
+            return millis;
+        }
+    }
+
+    static final class Offset implements TimeSource {
+
+        private final TimeSource base;
+        private final long offsetMillis;
+
+        Offset(TimeSource base, long offsetMillis) {
+            this.base = base;
+            this.offsetMillis = offsetMillis;
+        }
+
+        @Override
+        public long currentTimeMillis() {
+            return base.currentTimeMillis() + offsetMillis;
+        }
+    }
+
+    static final class Scaled implements TimeSource {
+
+        private final TimeSource base;
+        private final long baseStartMillis;
+        private final long startMillis;
+        private final double rate;
+
+        Scaled(TimeSource base, long startMillis, double rate) {
+            if (!(rate >= 0.0) || Double.isInfinite(rate)) {
+                throw new IllegalArgumentException("Rate must be a non-negative number: " + rate);
+            }
+            this.base = base;
+            this.baseStartMillis = base.currentTimeMillis();
+            this.startMillis = startMillis;
+            this.rate = rate;
+        }
+
+        @Override
+        public long currentTimeMillis() {
+            return startMillis + (long) ((base.currentTimeMillis() - baseStartMillis) * rate);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.bradneighbors.builders;
+
+/**
+ * The offset history of a time zone from zone data other than the JDK's, such as joda-time's.
+ *
+ * <p>Builders precompute a table of the offsets once per zone id and share it, so the rules are only asked for
+ * transitions while the table is built, and for offsets after the year 2100. The rules of a zone id must therefore
+ * always describe the same zone. Implementations must be safe to call from any thread.</p>
+ *
+ * <p>
+ * Example:
+ * <code>Date midnightInTokyo = now().inTimeZone(tokyoRules).atMidnightExactly().build();</code>
+ * </p>
+ */
+public interface TimeZoneRules {
+
+    /**
+     * @return The zone id, e.g. <code>America/New_York</code>, which identifies the zone whatever data it comes from.
+     */
+    String id();
+
+    /**
+     * @return Whether the offset never changes.
+     */
+    boolean isFixed();
+
+    /**
+     * @param instant epoch milliseconds
+     * @return The offset from UTC in milliseconds in force at the instant.
+     */
+    int offsetAt(long instant);
+
+    /**
+     * @param instant epoch milliseconds
+     * @return The first instant after the given one at which the offset changes, or <code>Long.MAX_VALUE</code> if
+     * none.
+     */
+    long nextTransition(long instant);
+}
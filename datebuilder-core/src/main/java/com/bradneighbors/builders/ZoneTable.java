@@ -0,0 +1,308 @@
+package com.bradneighbors.builders;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A time zone's offset history, precomputed from zone data into sorted primitive arrays.
+ *
+ * <p>Offsets are found with a binary search over the transitions instead of going through the zone provider on
+ * every call. Tables are built once per zone and shared by every builder. Transitions up to the end of
+ * {@link #TABLE_END_YEAR} are tabulated; later instants are rare enough to be answered by the zone rules
+ * themselves.</p>
+ *
+ * <p>{@link #UTC} and the common names of UTC are answered without the zone provider; its table is built when the
+ * class is initialised. Other zone ids are resolved with the JDK's java.time zone data. Tables for other zone data,
+ * such as joda-time's in datebuilder-joda, are built from {@link TimeZoneRules}.</p>
+ */
+final class ZoneTable {
+
+    static final int TABLE_END_YEAR = 2100;
+
+    /**
+     * Computed without {@link CivilTime}'s lookup table, which would otherwise be built by the first builder.
+     */
+    private static final long TABLE_END = CivilTime.computeDaysFromCivil(TABLE_END_YEAR + 1, 1, 1)
+            * CivilTime.MILLIS_PER_DAY;
+
+    static final ZoneTable UTC = new ZoneTable(new JavaTimeRules("UTC", ZoneOffset.UTC));
+
+    private static final ConcurrentMap<String, ZoneTable> TABLES = new ConcurrentHashMap<String, ZoneTable>();
+
+    /**
+     * Tables built from {@link TimeZoneRules}, apart from the JDK's so that either zone data can be used for an id.
+     */
+    private static final ConcurrentMap<String, ZoneTable> RULE_TABLES = new ConcurrentHashMap<String, ZoneTable>();
+
+    /**
+     * The zone id, which identifies the zone whichever zone data the table was built from.
+     */
+    private final String id;
+    private final TimeZoneRules rules;
+    private final boolean fixed;
+    private final int fixedOffset;
+    /**
+     * The instants at which the offset changes, ascending.
+     */
+    private final long[] transitions;
+    /**
+     * <code>offsets[i]</code> is in force from <code>transitions[i - 1]</code> up to <code>transitions[i]</code>.
+     */
+    private final int[] offsets;
+
+    ZoneTable(TimeZoneRules rules) {
+        this.id = rules.id();
+        this.rules = rules;
+        this.fixed = rules.isFixed();
+        this.fixedOffset = fixed ? rules.offsetAt(0L) : 0;
+        if (fixed) {
+            transitions = new long[0];
+            offsets = new int[]{fixedOffset};
+            return;
+        }
+        long[] instants = new long[64];
+        int count = 0;
+        long instant = rules.nextTransition(Long.MIN_VALUE);
+        while (instant < TABLE_END) {
+            if (count == instants.length) {
+                instants = Arrays.copyOf(instants, count * 2);
+            }
+            instants[count++] = instant;
+            long next = rules.nextTransition(instant);
+            if (next <= instant) {
+                break;
+            }
+            instant = next;
+        }
+        transitions = Arrays.copyOf(instants, count);
+        offsets = new int[count + 1];
+        offsets[0] = rules.offsetAt(count == 0 ? 0L : transitions[0] - 1L);
+        for (int i = 0; i < count; i++) {
+            offsets[i + 1] = rules.offsetAt(transitions[i]);
+        }
+    }
+
+    /**
+     * Gets the shared table of a zone, building it on first use.
+     *
+     * @param zoneId a zone id such as <code>America/New_York</code>
+     * @return the table
+     * @throws IllegalArgumentException When the zone id is not recognised.
+     */
+    static ZoneTable forId(String zoneId) {
+        if (isUtc(zoneId)) {
+            return UTC;
+        }
+        ZoneTable table = TABLES.get(zoneId);
+        if (table == null) {
+            ZoneId zone;
+            try {
+                zone = ZoneId.of(zoneId);
+            } catch (DateTimeException e) {
+                throw new IllegalArgumentException("Unknown time zone: " + zoneId, e);
+            }
+            table = forZone(zone);
+            TABLES.putIfAbsent(zoneId, table);
+        }
+        return table;
+    }
+
+    /**
+     * Gets the shared table of a zone, building it on first use.
+     *
+     * @param zone the zone
+     * @return the table
+     */
+    static ZoneTable forZone(ZoneId zone) {
+        if (zone == ZoneOffset.UTC || isUtc(zone.getId())) {
+            return UTC;
+        }
+        ZoneTable table = TABLES.get(zone.getId());
+        if (table == null) {
+            ZoneTable built = new ZoneTable(new JavaTimeRules(zone.getId(), zone));
+            table = TABLES.putIfAbsent(zone.getId(), built);
+            if (table == null) {
+                table = built;
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Gets the shared table of a zone's rules, building it on first use of the zone id.
+     *
+     * @param rules the zone's rules
+     * @return the table
+     * @throws IllegalArgumentException When the rules are null.
+     */
+    static ZoneTable forRules(TimeZoneRules rules) {
+        if (rules == null) {
+            throw new IllegalArgumentException("Time zone rules must not be null");
+        }
+        if (isUtc(rules.id())) {
+            return UTC;
+        }
+        ZoneTable table = RULE_TABLES.get(rules.id());
+        if (table == null) {
+            ZoneTable built = new ZoneTable(rules);
+            table = RULE_TABLES.putIfAbsent(rules.id(), built);
+            if (table == null) {
+                table = built;
+            }
+        }
+        return table;
+    }
+
+    /**
+     * @return the zone id, e.g. <code>America/New_York</code>
+     */
+    String id() {
+        return id;
+    }
+
+    /**
+     * Recognises the common names of UTC, so they share {@link #UTC} without loading any zone data.
+     */
+    private static boolean isUtc(String zoneId) {
+        return "UTC".equals(zoneId) || "Z".equals(zoneId) || "GMT".equals(zoneId) || "Etc/UTC".equals(zoneId)
+                || "Etc/GMT".equals(zoneId);
+    }
+
+    /**
+     * @return whether the offset never changes, making every calendar day exactly 24 hours long
+     */
+    boolean isFixed() {
+        return fixed;
+    }
+
+    /**
+     * @param instant epoch milliseconds
+     * @return the offset from UTC in milliseconds in force at the instant
+     */
+    int offsetAt(long instant) {
+        if (fixed) {
+            return fixedOffset;
+        }
+        if (instant >= TABLE_END) {
+            return rules.offsetAt(instant);
+        }
+        return offsets[transitionsUpTo(instant)];
+    }
+
+    /**
+     * @param instant epoch milliseconds
+     * @return the wall-clock time at the instant, expressed as milliseconds since the local epoch
+     */
+    long toLocal(long instant) {
+        return instant + offsetAt(instant);
+    }
+
+    /**
+     * Converts a wall-clock time back to an instant.
+     * Wall-clock times that occur twice resolve to the earlier instant, and wall-clock times skipped by a
+     * transition move forward by the length of the gap.
+     *
+     * @param local milliseconds since the local epoch
+     * @return epoch milliseconds
+     */
+    long toUtc(long local) {
+        if (fixed) {
+            return local - fixedOffset;
+        }
+        int first = offsetAt(local - offsetAt(local));
+        int second = offsetAt(local - first);
+        if (first != second) {
+            return local - Math.min(first, second);
+        }
+        int previous;
+        if (local - first < TABLE_END) {
+            int index = transitionsUpTo(local - first);
+            if (index == 0) {
+                return local - first;
+            }
+            previous = offsets[index - 1];
+        } else {
+            previous = rules.offsetAt(local - first - CivilTime.MILLIS_PER_DAY);
+        }
+        if (previous > first && offsetAt(local - previous) == previous) {
+            return local - previous;
+        }
+        return local - first;
+    }
+
+    /**
+     * Converts a wall-clock time back to an instant, keeping the given offset when it is valid for the wall-clock
+     * time. A wall-clock time that occurs twice can then keep the offset an instant already has, as Joda-Time and
+     * java.time do, so setting a field to its current value does not move the instant.
+     * Otherwise resolves as {@link #toUtc(long)}.
+     *
+     * @param local milliseconds since the local epoch
+     * @param preferredOffset the offset from UTC in milliseconds to keep, usually the offset before the change
+     * @return epoch milliseconds
+     */
+    long toUtc(long local, int preferredOffset) {
+        if (fixed) {
+            return local - fixedOffset;
+        }
+        if (offsetAt(local - preferredOffset) == preferredOffset) {
+            return local - preferredOffset;
+        }
+        return toUtc(local);
+    }
+
+    /**
+     * @return the number of transitions at or before the instant
+     */
+    private int transitionsUpTo(long instant) {
+        int low = 0;
+        int high = transitions.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (transitions[mid] <= instant) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private static final class JavaTimeRules implements TimeZoneRules {
+
+        private final String id;
+        private final ZoneRules rules;
+
+        JavaTimeRules(String id, ZoneId zone) {
+            this.id = id;
+            this.rules = zone.getRules();
+        }
+
+        @Override
+        public String id() {
+            return id;
+        }
+
+        @Override
+        public boolean isFixed() {
+            return rules.isFixedOffset();
+        }
+
+        @Override
+        public int offsetAt(long instant) {
+            return rules.getOffset(Instant.ofEpochMilli(instant)).getTotalSeconds() * 1000;
+        }
+
+        @Override
+        public long nextTransition(long instant) {
+            ZoneOffsetTransition next = rules.nextTransition(Instant.ofEpochMilli(instant));
+            return next == null ? Long.MAX_VALUE : next.getInstant().toEpochMilli();
+        }
+    }
+}
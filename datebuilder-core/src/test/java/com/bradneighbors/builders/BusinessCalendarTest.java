@@ -0,0 +1,109 @@
+package com.bradneighbors.builders;
+
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BusinessCalendarTest {
+
+    private static final BusinessCalendar CALENDAR = BusinessCalendar.years(2000, 2030)
+            .holiday(2012, 12, 25)
+            .holiday(LocalDate.of(2012, 12, 26))
+            .holiday(2013, 1, 1)
+            .build();
+
+    @Test
+    public void skipsWeekendsAndHolidays() {
+        assertTrue(CALENDAR.isBusinessDay(LocalDate.of(2012, 12, 21).toEpochDay()));
+        assertFalse(CALENDAR.isBusinessDay(LocalDate.of(2012, 12, 22).toEpochDay()));
+        assertFalse(CALENDAR.isBusinessDay(LocalDate.of(2012, 12, 23).toEpochDay()));
+        assertFalse(CALENDAR.isBusinessDay(LocalDate.of(2012, 12, 25).toEpochDay()));
+        assertEquals(LocalDate.of(2012, 12, 27).toEpochDay(),
+                CALENDAR.addBusinessDays(LocalDate.of(2012, 12, 21).toEpochDay(), 2));
+        assertEquals(LocalDate.of(2012, 12, 24).toEpochDay(),
+                CALENDAR.nextBusinessDay(LocalDate.of(2012, 12, 22).toEpochDay()));
+        assertEquals(LocalDate.of(2012, 12, 21).toEpochDay(),
+                CALENDAR.addBusinessDays(LocalDate.of(2012, 12, 24).toEpochDay(), -1));
+        assertEquals(LocalDate.of(2012, 12, 31).toEpochDay(),
+                CALENDAR.addBusinessDays(LocalDate.of(2013, 1, 2).toEpochDay(), -1));
+    }
+
+    @Test
+    public void matchesWalkingOneDayAtATime() {
+        long first = LocalDate.of(2000, 1, 1).toEpochDay();
+        for (long day = first; day < first + 3000; day += 7) {
+            for (int n = -20; n <= 400; n += 13) {
+                long walked = day;
+                for (int remaining = Math.abs(n); remaining > 0; ) {
+                    walked += n > 0 ? 1 : -1;
+                    if (walked >= first && CALENDAR.isBusinessDay(walked)) {
+                        remaining--;
+                    }
+                    if (walked < first) {
+                        break;
+                    }
+                }
+                if (walked >= first) {
+                    assertEquals(walked, CALENDAR.addBusinessDays(day, n));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void countsBusinessDaysBetweenDates() {
+        long christmasEve = LocalDate.of(2012, 12, 24).toEpochDay();
+        assertEquals(3, CALENDAR.businessDaysBetween(christmasEve, christmasEve + 7));
+        assertEquals(-3, CALENDAR.businessDaysBetween(christmasEve + 7, christmasEve));
+        int weekdays = 0;
+        for (LocalDate date = LocalDate.of(2000, 1, 1); date.getYear() < 2031; date = date.plusDays(1)) {
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                weekdays++;
+            }
+        }
+        assertEquals(weekdays - 3, CALENDAR.businessDaysBetween(LocalDate.of(2000, 1, 1).toEpochDay(),
+                LocalDate.of(2031, 1, 1).toEpochDay()));
+    }
+
+    @Test
+    public void supportsOtherWeekends() {
+        BusinessCalendar calendar = BusinessCalendar.years(2012, 2012)
+                .weekend(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY).build();
+        assertTrue(calendar.isBusinessDay(LocalDate.of(2012, 12, 23).toEpochDay()));
+        assertEquals(LocalDate.of(2012, 12, 23).toEpochDay(),
+                calendar.nextBusinessDay(LocalDate.of(2012, 12, 20).toEpochDay()));
+    }
+
+    @Test
+    public void addsBusinessDaysToBuildersKeepingTheTimeOfDay() {
+        DateBuilder builder = DateBuilder.MM_dd_yyyy("12_21_2012").addHours(9).addBusinessDays(2, CALENDAR);
+        assertEquals(DateBuilder.MM_dd_yyyy("12_27_2012").addHours(9).buildMillis(), builder.buildMillis());
+        assertTrue(builder.isBusinessDay(CALENDAR));
+        ImmutableDateBuilder saturday = ImmutableDateBuilder.MM_dd_yyyy("12_22_2012");
+        assertFalse(saturday.isBusinessDay(CALENDAR));
+        assertEquals(ImmutableDateBuilder.MM_dd_yyyy("12_24_2012"), saturday.nextBusinessDay(CALENDAR));
+    }
+
+    @Test
+    public void usesTheDateInTheBuildersTimeZone() {
+        ImmutableDateBuilder fridayEvening = ImmutableDateBuilder.MM_dd_yyyy("12_22_2012").addHours(2)
+                .inTimeZone("America/New_York");
+        assertTrue(fridayEvening.isBusinessDay(CALENDAR));
+        assertEquals(fridayEvening.addDays(3).buildMillis(), fridayEvening.nextBusinessDay(CALENDAR).buildMillis());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsDaysOutsideItsYears() {
+        CALENDAR.isBusinessDay(LocalDate.of(1999, 12, 31).toEpochDay());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsResultsOutsideItsYears() {
+        CALENDAR.addBusinessDays(LocalDate.of(2030, 12, 30).toEpochDay(), 2);
+    }
+}
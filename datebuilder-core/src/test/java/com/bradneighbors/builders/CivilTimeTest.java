@@ -0,0 +1,85 @@
+package com.bradneighbors.builders;
+
+import org.junit.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CivilTimeTest {
+
+    @Test
+    public void convertsBetweenEpochDaysAndCivilDates() {
+        for (long epochDay = -800000; epochDay <= 800000; epochDay += 7) {
+            LocalDate expected = LocalDate.ofEpochDay(epochDay);
+            long date = CivilTime.civilFromDays(epochDay);
+            assertEquals(expected.getYear(), CivilTime.yearOf(date));
+            assertEquals(expected.getMonthValue(), CivilTime.monthOf(date));
+            assertEquals(expected.getDayOfMonth(), CivilTime.dayOf(date));
+            assertEquals(epochDay, CivilTime.daysFromCivil(expected.getYear(), expected.getMonthValue(),
+                    expected.getDayOfMonth()));
+        }
+    }
+
+    @Test
+    public void tableAgreesWithArithmeticAcrossTheWindow() {
+        long first = CivilTime.computeDaysFromCivil(CivilTime.DEFAULT_TABLE_FIRST_YEAR, 1, 1) - 2;
+        long end = CivilTime.computeDaysFromCivil(CivilTime.DEFAULT_TABLE_LAST_YEAR + 1, 1, 1) + 2;
+        for (long epochDay = first; epochDay <= end; epochDay++) {
+            long date = CivilTime.civilFromDays(epochDay);
+            assertEquals(CivilTime.computeCivilFromDays(epochDay), date);
+            assertEquals(epochDay, CivilTime.daysFromCivil(CivilTime.yearOf(date), CivilTime.monthOf(date),
+                    CivilTime.dayOf(date)));
+        }
+        assertEquals(CivilTime.computeDaysFromCivil(2012, 3, 0), CivilTime.daysFromCivil(2012, 3, 0));
+        assertEquals(CivilTime.computeDaysFromCivil(2012, 13, 1), CivilTime.daysFromCivil(2012, 13, 1));
+    }
+
+    @Test
+    public void buildsTheTableOnlyWhenItIsFirstUsed() throws Exception {
+        String table = CivilTime.class.getName() + "$Table";
+        RecordingClassLoader loader = new RecordingClassLoader(
+                CivilTime.class.getProtectionDomain().getCodeSource().getLocation());
+        Class<?> builderClass = loader.loadClass(DateBuilder.class.getName());
+        Object builder = builderClass.getMethod("now").invoke(null);
+        builderClass.getMethod("build").invoke(builder);
+        builderClass.getMethod("inTimeZone", String.class).invoke(builder, "America/New_York");
+        assertFalse(loader.loaded.contains(table));
+        builderClass.getMethod("inYear", int.class).invoke(builder, 1974);
+        assertTrue(loader.loaded.contains(table));
+    }
+
+    @Test
+    public void knowsLengthOfMonths() {
+        assertEquals(29, CivilTime.lengthOfMonth(2000, 2));
+        assertEquals(28, CivilTime.lengthOfMonth(1900, 2));
+        assertEquals(29, CivilTime.lengthOfMonth(2012, 2));
+        assertEquals(30, CivilTime.lengthOfMonth(2012, 11));
+        assertEquals(31, CivilTime.lengthOfMonth(2012, 12));
+    }
+
+    /**
+     * Loads the library's classes afresh, recording their names, so that their static initialisers run again.
+     */
+    private static final class RecordingClassLoader extends URLClassLoader {
+
+        final Set<String> loaded = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+        RecordingClassLoader(URL classes) {
+            super(new URL[]{classes}, null);
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            loaded.add(name);
+            return super.findClass(name);
+        }
+    }
+}
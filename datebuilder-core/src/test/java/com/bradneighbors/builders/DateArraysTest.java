@@ -0,0 +1,71 @@
+package com.bradneighbors.builders;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class DateArraysTest {
+
+    private static final long DAY = CivilTime.MILLIS_PER_DAY;
+    private static final long DECEMBER_1_2012 = 1354320000000L;
+
+    @Test
+    public void addsDaysAndHours() {
+        long[] millis = {DECEMBER_1_2012, -1L};
+        DateArrays.addDays(millis, 2);
+        DateArrays.addHours(millis, -1);
+        assertArrayEquals(new long[]{DECEMBER_1_2012 + 2 * DAY - 3600000L, 2 * DAY - 3600001L}, millis);
+    }
+
+    @Test
+    public void truncatesToMidnightOnBothSidesOfTheEpoch() {
+        long[] millis = {DECEMBER_1_2012 + 1L, DECEMBER_1_2012, -1L, -DAY, -DAY - 1L, 0L};
+        DateArrays.atMidnightExactly(millis);
+        assertArrayEquals(new long[]{DECEMBER_1_2012, DECEMBER_1_2012, -DAY, -DAY, -2 * DAY, 0L}, millis);
+    }
+
+    @Test
+    public void matchesTheBuilder() {
+        long[] millis = new long[1000];
+        for (int i = 0; i < millis.length; i++) {
+            millis[i] = (i - 500) * 7777777777L + i;
+        }
+        long[] expected = new long[millis.length];
+        for (int i = 0; i < millis.length; i++) {
+            expected[i] = ImmutableDateBuilder.ofMillis(millis[i]).addDays(-3).atMidnightExactly().buildMillis();
+        }
+        DateArrays.addDaysAtMidnight(millis, -3);
+        assertArrayEquals(expected, millis);
+    }
+
+    @Test
+    public void updatesRanges() {
+        long[] millis = {1L, 1L, 1L};
+        DateArrays.shift(millis, 1, 2, 5L);
+        assertArrayEquals(new long[]{1L, 6L, 1L}, millis);
+    }
+
+    @Test
+    public void updatesHeapBuffersBetweenPositionAndLimit() {
+        LongBuffer buffer = LongBuffer.wrap(new long[]{DECEMBER_1_2012 + 1L, DECEMBER_1_2012 + 1L, DECEMBER_1_2012 + 1L});
+        buffer.position(1).limit(2);
+        LongBuffer slice = buffer.slice();
+        DateArrays.addDaysAtMidnight(slice, 1);
+        assertArrayEquals(new long[]{DECEMBER_1_2012 + 1L, DECEMBER_1_2012 + DAY, DECEMBER_1_2012 + 1L}, buffer.array());
+        assertEquals(0, slice.position());
+    }
+
+    @Test
+    public void updatesDirectBuffers() {
+        LongBuffer buffer = ByteBuffer.allocateDirect(16).asLongBuffer();
+        buffer.put(0, -1L).put(1, DECEMBER_1_2012 + 1L);
+        DateArrays.addDaysAtMidnight(buffer, 0);
+        DateArrays.shift(buffer, 1L);
+        assertEquals(-DAY + 1L, buffer.get(0));
+        assertEquals(DECEMBER_1_2012 + 1L, buffer.get(1));
+    }
+}
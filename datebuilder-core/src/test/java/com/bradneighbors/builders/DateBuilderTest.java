@@ -0,0 +1,270 @@
+package com.bradneighbors.builders;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Calendar;
+import java.util.Date;
+
+import static com.bradneighbors.builders.DateBuilder.MM_dd_yyyy;
+import static com.bradneighbors.builders.DateBuilder.now;
+import static com.bradneighbors.builders.DateBuilder.today;
+import static com.bradneighbors.builders.DateBuilder.tomorrow;
+import static com.bradneighbors.builders.DateBuilder.yesterday;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DateBuilderTest {
+
+    private static String systemTimeZone;
+
+    @BeforeClass
+    public static void setTimeZoneToUtc() {
+        systemTimeZone = System.getProperty("user.timezone");
+        System.setProperty("user.timezone", "UTC");
+    }
+
+    @AfterClass
+    public static void restoreSystemTimeZone() {
+        if (systemTimeZone == null) {
+            System.clearProperty("user.timezone");
+        } else {
+            System.setProperty("user.timezone", systemTimeZone);
+        }
+    }
+
+    @Test
+    public void buildsSpecifiedDateToFormat() {
+        Date august29_1974 = MM_dd_yyyy("08_29_1974").build();
+        assertEquals(146966400000L, august29_1974.getTime());
+    }
+
+    @Test
+    public void addsADayToDateBeingBuilt() {
+        Date date = MM_dd_yyyy("12_01_2012").addDays(2).build();
+        assertEquals(1354492800000L, date.getTime());
+    }
+
+    @Test
+    public void addsADayToDateBeingBuilt_DaysCanBeNeg() {
+        Date date = MM_dd_yyyy("12_01_2012").addDays(-2).build();
+        assertEquals(1354147200000L, date.getTime());
+    }
+
+    @Test
+    public void buildsDatesAtMidnightExactly() {
+        Date date = now().atMidnightExactly().build();
+        Calendar cal = Calendar.getInstance();
+        cal.setTime(date);
+        assertEquals(0, cal.get(Calendar.MILLISECOND));
+        assertEquals(0, cal.get(Calendar.MINUTE));
+        assertEquals(0, cal.get(Calendar.HOUR));
+    }
+
+    @Test
+    public void subtractsDays() {
+        Date date = MM_dd_yyyy("12_01_2012").subtractDays(1).build();
+        assertEquals(1354233600000L, date.getTime());
+    }
+
+    @Test
+    public void buildsDateInSpecifiedYear() {
+        Date date = now().inYear(2000).build();
+        Calendar cal = Calendar.getInstance();
+        cal.setTime(date);
+        assertEquals(2000, cal.get(Calendar.YEAR));
+    }
+
+    @Test
+    public void buildsDateInSpecifiedMonth() {
+        Date date = today().inMonth(1).build();
+        Calendar cal = Calendar.getInstance();
+        cal.setTime(date);
+        assertEquals(Calendar.JANUARY, cal.get(Calendar.MONTH));
+    }
+
+    @Test
+    public void buildsDateOnSpecifiedDayOfMonth() {
+        Date date = now().onDay(1).build();
+        Calendar cal = Calendar.getInstance();
+        cal.setTime(date);
+        assertEquals(1, cal.get(Calendar.DAY_OF_MONTH));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mustSpecifyPropertyFormattedStringForMM_dd_yyyy() {
+        MM_dd_yyyy("crap_01_02015_foo").build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsMonthsOutOfRangeForMM_dd_yyyy() {
+        MM_dd_yyyy("13_01_2012");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsDaysPastEndOfMonthForMM_dd_yyyy() {
+        MM_dd_yyyy("02_29_2013");
+    }
+
+    @Test
+    public void buildsLeapDayForMM_dd_yyyy() {
+        Date date = MM_dd_yyyy("02_29_2012").build();
+        assertEquals(1330473600000L, date.getTime());
+    }
+
+    @Test
+    public void buildsDatesBeforeTheEpochForMM_dd_yyyy() {
+        Date date = MM_dd_yyyy("07_04_1776").build();
+        assertEquals(-6106060800000L, date.getTime());
+    }
+
+    @Test
+    public void buildsYesterday() {
+        Date yesterday = yesterday().atMidnightExactly().build();
+        Date today = today().atMidnightExactly().build();
+        assertTrue(yesterday.before(today));
+    }
+
+    @Test
+    public void buildsTomorrow() {
+        Date tomorrow = tomorrow().atMidnightExactly().build();
+        Date today = today().atMidnightExactly().build();
+        assertTrue(tomorrow.after(today));
+    }
+
+    @Test
+    public void canAddYears() {
+        Date today = today().build();
+        Date today10YearsFromNow = today().addYears(10).build();
+
+        Calendar todayCal = Calendar.getInstance();
+        todayCal.setTime(today);
+
+        Calendar today10YearsFromNowCal = Calendar.getInstance();
+        today10YearsFromNowCal.setTime(today10YearsFromNow);
+
+        assertEquals(10, today10YearsFromNowCal.get(Calendar.YEAR) - todayCal.get(Calendar.YEAR));
+    }
+
+    @Test
+    public void canAddHours() {
+        Date date = MM_dd_yyyy("12_01_2012").addHours(1).build();
+        assertEquals(1354323600000L, date.getTime());
+    }
+
+    @Test
+    public void canSubtractMinutes() {
+        Date date = MM_dd_yyyy("12_01_2012").subtractMinutes(1).build();
+        assertEquals(1354319940000L, date.getTime());
+    }
+
+    @Test
+    public void buildsMillis() {
+        assertEquals(1354319940000L, MM_dd_yyyy("12_01_2012").subtractMinutes(1).buildMillis());
+    }
+
+    @Test
+    public void buildsEpochSeconds() {
+        assertEquals(1354319940L, MM_dd_yyyy("12_01_2012").subtractMinutes(1).buildEpochSecond());
+        assertEquals(-60L, MM_dd_yyyy("01_01_1970").subtractMinutes(1).buildEpochSecond());
+    }
+
+    @Test
+    public void buildsEpochDays() {
+        assertEquals(15675L, MM_dd_yyyy("12_01_2012").addHours(23).buildEpochDay());
+        assertEquals(-1L, MM_dd_yyyy("01_01_1970").subtractMinutes(1).buildEpochDay());
+    }
+
+    @Test
+    public void addingYearsToLeapDayEndsOnLastDayOfFebruary() {
+        Date date = MM_dd_yyyy("02_29_2012").addHours(5).addYears(1).build();
+        assertEquals(MM_dd_yyyy("02_28_2013").addHours(5).buildMillis(), date.getTime());
+    }
+
+    @Test
+    public void settingMonthKeepsDayWithinMonth() {
+        Date date = MM_dd_yyyy("01_31_2012").inMonth(2).build();
+        assertEquals(MM_dd_yyyy("02_29_2012").buildMillis(), date.getTime());
+    }
+
+    @Test
+    public void settingFieldsKeepsTimeOfDay() {
+        Date date = MM_dd_yyyy("12_01_2012").addHours(13).inYear(1974).inMonth(8).onDay(29).build();
+        assertEquals(MM_dd_yyyy("08_29_1974").addHours(13).buildMillis(), date.getTime());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mustSpecifyDayWithinMonth() {
+        MM_dd_yyyy("02_01_2013").onDay(29);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mustSpecifyMonthWithinYear() {
+        today().inMonth(0);
+    }
+
+    @Test
+    public void buildsMidnightInTimeZone() {
+        Date date = MM_dd_yyyy("12_01_2012").addHours(13).inTimeZone("America/New_York").atMidnightExactly().build();
+        assertEquals(MM_dd_yyyy("12_01_2012").addHours(5).buildMillis(), date.getTime());
+    }
+
+    @Test
+    public void keepsWallClockWhenAddingDaysAcrossDaylightSavingTime() {
+        long beforeChange = MM_dd_yyyy("03_10_2012").addHours(17).buildMillis();
+        long afterChange = MM_dd_yyyy("03_10_2012").addHours(17).inTimeZone("America/New_York").addDays(1).buildMillis();
+        assertEquals(beforeChange + 23 * 3600000L, afterChange);
+    }
+
+    @Test
+    public void leavesTheInstantAloneWhenSettingFieldsToTheirValuesAfterFallingBack() {
+        long oneThirtyEst = MM_dd_yyyy("11_03_2024").addHours(7).subtractMinutes(30).buildMillis();
+        DateBuilder builder = now(TimeSource.fixed(oneThirtyEst)).inTimeZone("America/New_York");
+        assertEquals(oneThirtyEst, builder.onDay(3).buildMillis());
+        assertEquals(oneThirtyEst, builder.inMonth(11).buildMillis());
+        assertEquals(oneThirtyEst, builder.inYear(2024).buildMillis());
+        assertEquals(oneThirtyEst, builder.addDays(0).buildMillis());
+        assertEquals(oneThirtyEst, builder.addYears(0).buildMillis());
+    }
+
+    @Test
+    public void keepsTheOffsetWhenAddingDaysIntoAFallBackOverlap() {
+        long oneThirtyEst = MM_dd_yyyy("11_04_2024").addHours(7).subtractMinutes(30).buildMillis();
+        long oneThirtyEdt = MM_dd_yyyy("11_02_2024").addHours(6).subtractMinutes(30).buildMillis();
+        assertEquals(MM_dd_yyyy("11_03_2024").addHours(7).subtractMinutes(30).buildMillis(),
+                now(TimeSource.fixed(oneThirtyEst)).inTimeZone("America/New_York").subtractDays(1).buildMillis());
+        assertEquals(MM_dd_yyyy("11_03_2024").addHours(6).subtractMinutes(30).buildMillis(),
+                now(TimeSource.fixed(oneThirtyEdt)).inTimeZone("America/New_York").addDays(1).buildMillis());
+    }
+
+    @Test
+    public void setsFieldsInTimeZone() {
+        Date date = MM_dd_yyyy("12_01_2012").inTimeZone(ZoneId.of("Asia/Tokyo"))
+                .inYear(1974).inMonth(8).onDay(29).atMidnightExactly().build();
+        assertEquals(MM_dd_yyyy("08_28_1974").addHours(15).buildMillis(), date.getTime());
+    }
+
+    @Test
+    public void buildsEpochDaysInTimeZone() {
+        assertEquals(15674L, MM_dd_yyyy("12_01_2012").addHours(1).inTimeZone("America/New_York").buildEpochDay());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mustSpecifyKnownTimeZone() {
+        now().inTimeZone("Nowhere/Special");
+    }
+
+    @Test
+    public void buildsJavaTimeValues() {
+        DateBuilder builder = MM_dd_yyyy("12_01_2012").addHours(1).inTimeZone(ZoneId.of("America/New_York"));
+        assertEquals(Instant.ofEpochMilli(1354323600000L), builder.buildInstant());
+        assertEquals(LocalDate.of(2012, 11, 30), builder.buildLocalDate());
+        assertEquals(OffsetDateTime.of(2012, 11, 30, 20, 0, 0, 0, ZoneOffset.ofHours(-5)), builder.buildOffsetDateTime());
+    }
+}
@@ -0,0 +1,109 @@
+package com.bradneighbors.builders;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DateColumnsTest {
+
+    private static final long AUGUST_29_1974 = 146966400000L;
+    private static final long DECEMBER_1_2012 = 1354320000000L;
+
+    @Test
+    public void parsesStringArrays() {
+        String[] dates = {"08_29_1974", "crap", null, "12_01_2012"};
+        long[] millis = new long[4];
+        BitSet invalid = new BitSet();
+
+        assertEquals(2, DateColumns.MM_dd_yyyy(dates, millis, invalid));
+
+        assertEquals(AUGUST_29_1974, millis[0]);
+        assertEquals(DECEMBER_1_2012, millis[3]);
+        assertFalse(invalid.get(0));
+        assertTrue(invalid.get(1));
+        assertTrue(invalid.get(2));
+        assertFalse(invalid.get(3));
+    }
+
+    @Test
+    public void parsesLists() {
+        long[] millis = new long[2];
+        BitSet invalid = new BitSet();
+
+        assertEquals(1, DateColumns.MM_dd_yyyy(Arrays.asList(new StringBuilder("12_01_2012"), "02_30_2012"), millis, invalid));
+
+        assertEquals(DECEMBER_1_2012, millis[0]);
+        assertEquals(0L, millis[1]);
+        assertTrue(invalid.get(1));
+    }
+
+    @Test(timeout = 5000)
+    public void parsesLinkedListsInLinearTime() {
+        List<String> dates = new LinkedList<String>(Collections.nCopies(200000, "08_29_1974"));
+        dates.set(199999, "crap");
+        long[] millis = new long[dates.size()];
+        BitSet invalid = new BitSet();
+
+        assertEquals(1, DateColumns.MM_dd_yyyy(dates, millis, invalid));
+
+        assertEquals(AUGUST_29_1974, millis[199998]);
+        assertTrue(invalid.get(199999));
+    }
+
+    @Test
+    public void parsesContiguousCharacters() {
+        char[] chars = "08_29_1974|12_01_2012|13_01_2012".toCharArray();
+        long[] millis = new long[3];
+        BitSet invalid = new BitSet();
+
+        assertEquals(1, DateColumns.MM_dd_yyyy(chars, new int[]{0, 11, 22}, 3, millis, invalid));
+
+        assertArrayEquals(new long[]{AUGUST_29_1974, DECEMBER_1_2012, 0L}, millis);
+        assertEquals(2, invalid.nextSetBit(0));
+    }
+
+    @Test
+    public void parsesContiguousAsciiBytes() {
+        byte[] bytes = "08_29_197412_01_201212_01_20".getBytes(StandardCharsets.US_ASCII);
+        long[] millis = new long[3];
+        BitSet invalid = new BitSet();
+
+        assertEquals(1, DateColumns.MM_dd_yyyy(bytes, new int[]{0, 10, 20}, 3, millis, invalid));
+
+        assertArrayEquals(new long[]{AUGUST_29_1974, DECEMBER_1_2012, 0L}, millis);
+        assertEquals(2, invalid.nextSetBit(0));
+    }
+
+    @Test
+    public void parsesDirectBuffersWithoutMovingThem() {
+        byte[] ascii = "x08_29_197412_01_201202_30_2012".getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer bytes = ByteBuffer.allocateDirect(ascii.length);
+        bytes.put(ascii).position(5);
+        long[] millis = new long[4];
+        BitSet invalid = new BitSet();
+
+        assertEquals(2, DateColumns.MM_dd_yyyy(bytes, new int[]{1, 11, 21, 25}, 4, millis, invalid));
+
+        assertArrayEquals(new long[]{AUGUST_29_1974, DECEMBER_1_2012, 0L, 0L}, millis);
+        assertEquals("{2, 3}", invalid.toString());
+        assertEquals(5, bytes.position());
+        assertEquals(DECEMBER_1_2012, DateBuilder.MM_dd_yyyy(bytes, 11).buildMillis());
+        assertEquals(ParseStatus.DAY_OUT_OF_RANGE, ParseStatus.errorCode(DateBuilder.tryMM_dd_yyyy(bytes, 21)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mustSupplyRoomForEveryRow() {
+        DateColumns.MM_dd_yyyy(new String[]{"08_29_1974", "12_01_2012"}, new long[1], new BitSet());
+    }
+}
@@ -0,0 +1,75 @@
+package com.bradneighbors.builders;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class DateFilesTest {
+
+    private static final long AUGUST_29_1974 = 146966400000L;
+    private static final long DECEMBER_1_2012 = 1354320000000L;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void parsesOneColumnOfADelimitedFile() throws IOException {
+        Path file = write("id,date,amount\n1,08_29_1974,10\r\n2,crap,20\n3\n4,12_01_2012");
+        long[] millis = new long[4];
+        BitSet invalid = new BitSet();
+
+        assertEquals(4, DateFiles.MM_dd_yyyy(file, ',', 1, true, millis, invalid));
+
+        assertArrayEquals(new long[]{AUGUST_29_1974, 0L, 0L, DECEMBER_1_2012}, millis);
+        assertEquals("{1, 2}", invalid.toString());
+    }
+
+    @Test
+    public void remapsLinesCrossingAWindow() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            text.append(i).append('\t').append(i % 2 == 0 ? "08_29_1974" : "12_01_2012").append('\n');
+        }
+        Path file = write(text.toString());
+        long[] millis = new long[100];
+        BitSet invalid = new BitSet();
+
+        assertEquals(100, DateFiles.MM_dd_yyyy(file, '\t', 1, false, millis, invalid, 37));
+
+        assertEquals(0, invalid.cardinality());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 0 ? AUGUST_29_1974 : DECEMBER_1_2012, millis[i]);
+        }
+    }
+
+    @Test
+    public void readsEmptyFiles() throws IOException {
+        assertEquals(0, DateFiles.MM_dd_yyyy(write(""), ',', 0, true, new long[0], new BitSet()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsFilesWithMoreRowsThanTheOutputHolds() throws IOException {
+        DateFiles.MM_dd_yyyy(write("08_29_1974\n12_01_2012\n"), ',', 0, false, new long[1], new BitSet());
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsLinesLongerThanAWindow() throws IOException {
+        DateFiles.MM_dd_yyyy(write("08_29_1974,this line is too long\n08_29_1974\n"), ',', 0, false, new long[2],
+                new BitSet(), 16);
+    }
+
+    private Path write(String text) throws IOException {
+        Path file = folder.newFile().toPath();
+        Files.write(file, text.getBytes(StandardCharsets.US_ASCII));
+        return file;
+    }
+}
@@ -0,0 +1,90 @@
+package com.bradneighbors.builders;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class DateFormatDetectorTest {
+
+    private static final long AUGUST_29_1974 = 146966400000L;
+
+    @Test
+    public void recognisesEachFormat() {
+        assertSame(DateFormatDetector.MM_DD_YYYY, DateFormatDetector.detect("08_29_1974"));
+        assertSame(DateFormatDetector.ISO, DateFormatDetector.detect("1974-08-29"));
+        assertSame(DateFormatDetector.ISO_SLASHES, DateFormatDetector.detect("1974/08/29"));
+        assertSame(DateFormatDetector.DAY_FIRST, DateFormatDetector.detect("29/08/1974"));
+        assertSame(DateFormatDetector.BASIC_ISO, DateFormatDetector.detect("19740829"));
+        assertSame(DateFormatDetector.EPOCH_SECONDS, DateFormatDetector.detect("146966400"));
+        assertSame(DateFormatDetector.EPOCH_SECONDS, DateFormatDetector.detect("-86400"));
+        assertSame(DateFormatDetector.EPOCH_MILLIS, DateFormatDetector.detect("146966400000"));
+    }
+
+    @Test
+    public void rejectsUnrecognisedText() {
+        assertNull(DateFormatDetector.detect(""));
+        assertNull(DateFormatDetector.detect("29-08/1974"));
+        assertNull(DateFormatDetector.detect("1974-8-29"));
+        assertNull(DateFormatDetector.detect("29.08.1974"));
+        assertEquals(ParseStatus.UNKNOWN_FORMAT, ParseStatus.errorCode(DateFormatDetector.parse("Aug 29, 1974")));
+    }
+
+    @Test
+    public void parsesEachFormat() {
+        for (String text : new String[]{"08_29_1974", "1974-08-29", "1974/08/29", "29/08/1974", "19740829",
+                "146966400", "146966400000"}) {
+            assertEquals(text, AUGUST_29_1974, DateFormatDetector.parse(text));
+            byte[] bytes = (" " + text + " ").getBytes(StandardCharsets.US_ASCII);
+            assertEquals(text, AUGUST_29_1974, DateFormatDetector.parse(bytes, 1, text.length()));
+        }
+        assertEquals(ParseStatus.DAY_OUT_OF_RANGE, ParseStatus.errorCode(DateFormatDetector.parse("1974-02-30")));
+    }
+
+    @Test
+    public void locksInTheSampledFormatAndFallsBackOnMismatch() {
+        String[] dates = {"1974-08-29", "1974-08-30", "08_31_1974", null, "146966400", "1974-02-30", "garbage"};
+        long[] millis = new long[dates.length];
+        BitSet invalid = new BitSet();
+
+        assertEquals(3, DateColumns.autoDetect(dates, 2, millis, invalid));
+
+        long day = CivilTime.MILLIS_PER_DAY;
+        assertArrayEquals(new long[]{AUGUST_29_1974, AUGUST_29_1974 + day, AUGUST_29_1974 + 2 * day, 0L,
+                AUGUST_29_1974, 0L, 0L}, millis);
+        assertEquals("{3, 5, 6}", invalid.toString());
+    }
+
+    @Test
+    public void parsesColumnsWithoutARecognisableSample() {
+        long[] millis = new long[2];
+        BitSet invalid = new BitSet();
+
+        assertEquals(1, DateColumns.autoDetect(Arrays.asList("n/a", "19740829"), 1, millis, invalid));
+
+        assertEquals(AUGUST_29_1974, millis[1]);
+    }
+
+    @Test(timeout = 5000)
+    public void detectsLinkedListsInLinearTime() {
+        List<String> dates = new LinkedList<String>(Collections.nCopies(200000, "1974-08-29"));
+        dates.set(199999, "n/a");
+        long[] millis = new long[dates.size()];
+        BitSet invalid = new BitSet();
+
+        assertEquals(1, DateColumns.autoDetect(dates, 100000, millis, invalid));
+
+        assertEquals(AUGUST_29_1974, millis[199998]);
+        assertTrue(invalid.get(199999));
+    }
+}
@@ -0,0 +1,95 @@
+package com.bradneighbors.builders;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.Assert.assertEquals;
+
+public class DateFormattersTest {
+
+    @Test
+    public void formatsWhatItParses() {
+        assertEquals("08_29_1974", DateBuilder.MM_dd_yyyy("08_29_1974").formatMM_dd_yyyy());
+        assertEquals("01_01_0000", DateBuilder.MM_dd_yyyy("01_01_0000").formatMM_dd_yyyy());
+        assertEquals("12_31_9999", ImmutableDateBuilder.MM_dd_yyyy("12_31_9999").formatMM_dd_yyyy());
+    }
+
+    @Test
+    public void formatsTheDateOfTheBuildersTimeZone() {
+        DateBuilder builder = DateBuilder.MM_dd_yyyy("08_29_1974").addHours(2).inTimeZone("America/New_York");
+        assertEquals("08_28_1974", builder.formatMM_dd_yyyy());
+        assertEquals("1974-08-28T22:00:00.000-04:00", builder.formatIso8601());
+        assertEquals("1974-08-29T02:00:00.000Z", builder.inTimeZone("UTC").formatIso8601());
+    }
+
+    @Test
+    public void writesIntoCallerBuffers() {
+        ImmutableDateBuilder date = ImmutableDateBuilder.ofMillis(1354365045123L);
+        StringBuilder out = new StringBuilder("at ");
+        date.formatMM_dd_yyyy(out).append(' ');
+        date.formatIso8601(out);
+        assertEquals("at 12_01_2012 2012-12-01T12:30:45.123Z", out.toString());
+
+        char[] chars = new char[40];
+        int end = date.formatMM_dd_yyyy(chars, 2);
+        assertEquals(12, end);
+        end = date.formatIso8601(chars, end);
+        assertEquals("12_01_20122012-12-01T12:30:45.123Z", new String(chars, 2, end - 2));
+
+        ByteBuffer bytes = ByteBuffer.allocateDirect(40);
+        date.formatIso8601(bytes);
+        date.formatMM_dd_yyyy(bytes);
+        bytes.flip();
+        byte[] ascii = new byte[bytes.remaining()];
+        bytes.get(ascii);
+        assertEquals("2012-12-01T12:30:45.123Z12_01_2012", new String(ascii, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void matchesJavaTimeAcrossZonesAndCenturies() {
+        DateTimeFormatter iso = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXXXX");
+        ZoneId[] zones = {ZoneId.of("UTC"), ZoneId.of("Asia/Kolkata"), ZoneId.of("America/St_Johns"),
+                ZoneId.of("Europe/Amsterdam")};
+        for (ZoneId zone : zones) {
+            for (long millis = -2208988800000L; millis < 4102444800000L; millis += 987654321987L / 997) {
+                String expected = OffsetDateTime.ofInstant(Instant.ofEpochMilli(millis), zone).format(iso);
+                assertEquals(expected, ImmutableDateBuilder.ofMillis(millis).inTimeZone(zone).formatIso8601());
+            }
+        }
+    }
+
+    @Test
+    public void formatsOffsetsWithSeconds() {
+        assertEquals("1900-01-01T00:00:00.000-00:44:30",
+                ImmutableDateBuilder.ofMillis(-2208988800000L + 2670000L)
+                        .inTimeZone(ZoneOffset.ofHoursMinutesSeconds(0, -44, -30)).formatIso8601());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void rejectsBuffersWithoutRoom() {
+        DateBuilder.today().formatMM_dd_yyyy(new char[12], 3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsYearsWithMoreThanFourDigits() {
+        DateBuilder.MM_dd_yyyy("01_01_2012").inYear(10000).formatMM_dd_yyyy();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsEpochDaysFarBeforeTheYearZero() {
+        DateBuilder.now(TimeSource.fixed((long) Integer.MIN_VALUE * CivilTime.MILLIS_PER_DAY)).formatMM_dd_yyyy();
+    }
+
+    @Test
+    public void formatsTheFirstAndLastFourDigitYears() {
+        assertEquals("01_01_0000", DateBuilder.MM_dd_yyyy("01_01_2012").inYear(0).formatMM_dd_yyyy());
+        assertEquals("12_31_9999", DateBuilder.MM_dd_yyyy("12_31_2012").inYear(9999).formatMM_dd_yyyy());
+    }
+}
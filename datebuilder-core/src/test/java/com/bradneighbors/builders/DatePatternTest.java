@@ -0,0 +1,98 @@
+package com.bradneighbors.builders;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class DatePatternTest {
+
+    private static final long AUGUST_29_1974 = 146966400000L;
+
+    @Test
+    public void parsesCommonPatterns() {
+        assertEquals(AUGUST_29_1974, DatePattern.compile("yyyy-MM-dd").parse("1974-08-29"));
+        assertEquals(AUGUST_29_1974, DatePattern.compile("yyyyMMdd").parse("19740829"));
+        assertEquals(AUGUST_29_1974, DatePattern.compile("dd/MM/yyyy").parse("29/08/1974"));
+        assertEquals(AUGUST_29_1974, DatePattern.compile("MM_dd_yyyy").parse("08_29_1974"));
+        assertEquals(AUGUST_29_1974, DatePattern.compile("yyyyMMdd'T'").parse("19740829T"));
+    }
+
+    @Test
+    public void parsesEpochNumbers() {
+        assertEquals(AUGUST_29_1974, DatePattern.compile(DatePattern.EPOCH_SECONDS).parse("146966400"));
+        assertEquals(-86400000L, DatePattern.compile(DatePattern.EPOCH_SECONDS).parse("-86400"));
+        assertEquals(AUGUST_29_1974, DatePattern.compile(DatePattern.EPOCH_MILLIS).parse("146966400000"));
+        assertEquals(ParseStatus.NOT_A_DIGIT,
+                ParseStatus.errorCode(DatePattern.compile(DatePattern.EPOCH_SECONDS).parse("14696x400")));
+        assertEquals(ParseStatus.WRONG_LENGTH,
+                ParseStatus.errorCode(DatePattern.compile(DatePattern.EPOCH_SECONDS).parse("1234567890123456")));
+        assertEquals(ParseStatus.WRONG_LENGTH, ParseStatus.errorCode(DatePattern.compile(DatePattern.EPOCH_MILLIS).parse("-")));
+    }
+
+    @Test
+    public void reportsWhereParsingFailed() {
+        DatePattern iso = DatePattern.compile("yyyy-MM-dd");
+        assertEquals(ParseStatus.failure(ParseStatus.MISSING_SEPARATOR, 7), iso.parse("1974-08/29"));
+        assertEquals(ParseStatus.failure(ParseStatus.NOT_A_DIGIT, 2), iso.parse("19x4-08-29"));
+        assertEquals(ParseStatus.failure(ParseStatus.MONTH_OUT_OF_RANGE, 5), iso.parse("1974-13-29"));
+        assertEquals(ParseStatus.failure(ParseStatus.DAY_OUT_OF_RANGE, 8), iso.parse("1974-02-29"));
+        assertEquals(ParseStatus.failure(ParseStatus.WRONG_LENGTH, 9), iso.parse("1974-8-29"));
+    }
+
+    @Test
+    public void parsesAsciiByteRanges() {
+        byte[] bytes = "id=29/08/1974;".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(AUGUST_29_1974, DatePattern.compile("dd/MM/yyyy").parse(bytes, 3, 10));
+        assertEquals(ParseStatus.failure(ParseStatus.NOT_A_DIGIT, 5),
+                DatePattern.compile("dd/MM/yyyy").parse(bytes, 4, 10));
+        assertEquals(AUGUST_29_1974,
+                DatePattern.compile(DatePattern.EPOCH_SECONDS).parse("x146966400".getBytes(StandardCharsets.US_ASCII), 1, 9));
+    }
+
+    @Test
+    public void cachesCompiledPatterns() {
+        assertSame(DatePattern.compile("yyyy-MM-dd"), DatePattern.compile("yyyy-MM-dd"));
+        assertEquals(10, DatePattern.compile("yyyy-MM-dd").length());
+        assertEquals(-1, DatePattern.compile(DatePattern.EPOCH_MILLIS).length());
+    }
+
+    @Test
+    public void boundsTheCacheOfPatterns() {
+        DatePattern iso = DatePattern.compile("yyyy-MM-dd");
+        StringBuilder pattern = new StringBuilder("yyyy-MM-dd");
+        for (int i = 0; i < 2 * DatePattern.MAX_CACHED_PATTERNS; i++) {
+            pattern.append('#');
+            DatePattern.compile(pattern.toString());
+        }
+        pattern.append('#');
+        DatePattern uncached = DatePattern.compile(pattern.toString());
+        assertNotSame(uncached, DatePattern.compile(pattern.toString()));
+        assertEquals(uncached.length(), DatePattern.compile(pattern.toString()).length());
+        assertSame(iso, DatePattern.compile("yyyy-MM-dd"));
+    }
+
+    @Test
+    public void parsesThroughTheBuilder() {
+        assertEquals(AUGUST_29_1974, DateBuilder.parse("yyyy-MM-dd", "1974-08-29").buildMillis());
+        assertEquals(AUGUST_29_1974, DateBuilder.tryParse("yyyyMMdd", "19740829"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsBadDatesThroughTheBuilder() {
+        DateBuilder.parse("yyyy-MM-dd", "1974-02-30");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUnsupportedPatterns() {
+        DatePattern.compile("yyyy-MM-dd HH:mm");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsPatternsWithoutEveryField() {
+        DatePattern.compile("yyyy-MM");
+    }
+}
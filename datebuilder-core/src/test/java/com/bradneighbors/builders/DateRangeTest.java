@@ -0,0 +1,74 @@
+package com.bradneighbors.builders;
+
+import org.junit.Test;
+
+import java.util.Spliterator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DateRangeTest {
+
+    private static final long DAY = CivilTime.MILLIS_PER_DAY;
+
+    @Test
+    public void generatesDaysUpToTheExclusiveEnd() {
+        long start = DateBuilder.MM_dd_yyyy("12_30_2012").buildMillis();
+        long[] days = DateRange.from(DateBuilder.MM_dd_yyyy("12_30_2012"))
+                .until(DateBuilder.MM_dd_yyyy("01_02_2013")).everyDays(1).toArray();
+        assertArrayEquals(new long[]{start, start + DAY, start + 2 * DAY}, days);
+    }
+
+    @Test
+    public void roundsPartialStepsUp() {
+        ImmutableDateBuilder start = ImmutableDateBuilder.MM_dd_yyyy("01_01_2012");
+        assertEquals(3, DateRange.from(start).until(start.addDays(5)).everyDays(2).count());
+        assertEquals(25, DateRange.from(start).until(start.addDays(1).addHours(1)).everyHours(1).count());
+    }
+
+    @Test
+    public void isEmptyWhenTheEndIsNotAfterTheStart() {
+        ImmutableDateBuilder start = ImmutableDateBuilder.MM_dd_yyyy("01_01_2012");
+        assertEquals(0, DateRange.from(start).until(start).everyDays(1).count());
+        assertEquals(0, DateRange.from(start).until(start.subtractDays(3)).everyHours(1).count());
+        assertEquals(0, DateRange.from(start.inTimeZone("America/New_York")).until(start).everyDays(1).count());
+    }
+
+    @Test
+    public void followsTheWallClockAcrossDaylightSavingTime() {
+        ImmutableDateBuilder start = ImmutableDateBuilder.MM_dd_yyyy("03_10_2012").addHours(5)
+                .inTimeZone("America/New_York");
+        long end = start.addDays(3).buildMillis();
+        long[] days = DateRange.from(start).until(end).everyDays(1).toArray();
+        assertEquals(3, days.length);
+        for (int i = 0; i < days.length; i++) {
+            assertEquals(start.addDays(i).buildMillis(), days[i]);
+        }
+        assertEquals(DAY - CivilTime.MILLIS_PER_HOUR, days[2] - days[1]);
+    }
+
+    @Test
+    public void reportsItsExactSizeAndSplits() {
+        ImmutableDateBuilder start = ImmutableDateBuilder.MM_dd_yyyy("01_01_2012").inTimeZone("Europe/London");
+        Spliterator.OfLong spliterator = DateRange.from(start).until(start.addYears(1)).everyDays(1).spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.SORTED));
+        assertEquals(366, spliterator.getExactSizeIfKnown());
+        Spliterator.OfLong prefix = spliterator.trySplit();
+        assertEquals(183, prefix.estimateSize());
+        assertEquals(183, spliterator.estimateSize());
+    }
+
+    @Test
+    public void parallelStreamsMatchSequentialOnes() {
+        ImmutableDateBuilder start = ImmutableDateBuilder.MM_dd_yyyy("01_01_2000").inTimeZone("America/New_York");
+        DateRange range = DateRange.from(start).until(start.addYears(20));
+        assertArrayEquals(range.everyDays(3).toArray(), range.everyDays(3).parallel().toArray());
+        assertEquals(range.everyDays(1).sum(), range.everyDays(1).parallel().sum());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsStepsBelowOne() {
+        DateRange.from(DateBuilder.today()).until(DateBuilder.tomorrow()).everyDays(0);
+    }
+}
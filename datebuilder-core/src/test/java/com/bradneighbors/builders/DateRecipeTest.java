@@ -0,0 +1,90 @@
+package com.bradneighbors.builders;
+
+import org.junit.Test;
+
+import static com.bradneighbors.builders.DateBuilder.MM_dd_yyyy;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class DateRecipeTest {
+
+    private static final long DECEMBER_1_2012_AT_1_PM = 1354366800000L;
+
+    @Test
+    public void appliesRecordedOperations() {
+        DateRecipe recipe = DateRecipe.recipe().subtractDays(1).atMidnightExactly().build();
+        assertEquals(MM_dd_yyyy("11_30_2012").buildMillis(), recipe.apply(DECEMBER_1_2012_AT_1_PM));
+    }
+
+    @Test
+    public void matchesTheBuilder() {
+        DateRecipe recipe = DateRecipe.recipe().addDays(3).addHours(2).subtractMinutes(30).subtractDays(1)
+                .inMonth(2).onDay(29).addYears(1).inYear(2020).build();
+        long expected = MM_dd_yyyy("12_01_2012").addHours(13).addDays(3).addHours(2).subtractMinutes(30)
+                .subtractDays(1).inMonth(2).onDay(29).addYears(1).inYear(2020).buildMillis();
+        assertEquals(expected, recipe.apply(DECEMBER_1_2012_AT_1_PM));
+    }
+
+    @Test
+    public void matchesTheBuilderInTimeZones() {
+        DateRecipe recipe = DateRecipe.recipe().inTimeZone("America/New_York").subtractDays(100).addDays(10)
+                .atMidnightExactly().addHours(2).inTimeZone("Asia/Tokyo").inMonth(3).build();
+        for (long millis = DECEMBER_1_2012_AT_1_PM; millis < DECEMBER_1_2012_AT_1_PM + 400 * CivilTime.MILLIS_PER_DAY;
+             millis += 7 * CivilTime.MILLIS_PER_HOUR) {
+            long expected = MM_dd_yyyy("12_01_2012").addHours(13).addHours((int) ((millis - DECEMBER_1_2012_AT_1_PM)
+                    / CivilTime.MILLIS_PER_HOUR)).inTimeZone("America/New_York").subtractDays(100).addDays(10)
+                    .atMidnightExactly().addHours(2).inTimeZone("Asia/Tokyo").inMonth(3).buildMillis();
+            assertEquals(expected, recipe.apply(millis));
+        }
+    }
+
+    @Test
+    public void matchesTheBuilderWhenADayLandsInASpringForwardGap() {
+        long twoThirtyOnMarch9_2024 = MM_dd_yyyy("03_09_2024").addHours(8).subtractMinutes(30).buildMillis();
+        DateRecipe recipe = DateRecipe.recipe().inTimeZone("America/New_York").addDays(1).addDays(1).build();
+        long expected = DateBuilder.now(TimeSource.fixed(twoThirtyOnMarch9_2024)).inTimeZone("America/New_York")
+                .addDays(1).addDays(1).buildMillis();
+        assertEquals(MM_dd_yyyy("03_11_2024").addHours(8).subtractMinutes(30).buildMillis(), expected);
+        assertEquals(expected, recipe.apply(twoThirtyOnMarch9_2024));
+    }
+
+    @Test
+    public void subtractsTheMostNegativeNumberOfDays() {
+        long expected = DECEMBER_1_2012_AT_1_PM + (1L << 31) * CivilTime.MILLIS_PER_DAY;
+        assertEquals(expected, DateRecipe.recipe().subtractDays(Integer.MIN_VALUE).build().apply(DECEMBER_1_2012_AT_1_PM));
+        assertEquals(MM_dd_yyyy("12_01_2012").addHours(13).inTimeZone("America/New_York")
+                        .subtractDays(Integer.MIN_VALUE).buildMillis(),
+                DateRecipe.recipe().inTimeZone("America/New_York").subtractDays(Integer.MIN_VALUE).build()
+                        .apply(DECEMBER_1_2012_AT_1_PM));
+    }
+
+    @Test
+    public void appliesToArraysInPlace() {
+        long[] millis = {DECEMBER_1_2012_AT_1_PM, 0L, -1L};
+        DateRecipe.recipe().addDays(1).addHours(-1).build().applyAll(millis);
+        assertArrayEquals(new long[]{DECEMBER_1_2012_AT_1_PM + 23 * CivilTime.MILLIS_PER_HOUR,
+                23 * CivilTime.MILLIS_PER_HOUR, 23 * CivilTime.MILLIS_PER_HOUR - 1L}, millis);
+    }
+
+    @Test
+    public void appliesToRangesOfArrays() {
+        long[] millis = {DECEMBER_1_2012_AT_1_PM, DECEMBER_1_2012_AT_1_PM, DECEMBER_1_2012_AT_1_PM};
+        DateRecipe.recipe().atMidnightExactly().build().applyAll(millis, 1, 2);
+        assertArrayEquals(new long[]{DECEMBER_1_2012_AT_1_PM, MM_dd_yyyy("12_01_2012").buildMillis(),
+                DECEMBER_1_2012_AT_1_PM}, millis);
+    }
+
+    @Test
+    public void recipesAreUnaffectedByLaterRecording() {
+        DateRecipe.Recorder recorder = DateRecipe.recipe().addHours(1);
+        DateRecipe oneHour = recorder.build();
+        recorder.addHours(1);
+        assertEquals(CivilTime.MILLIS_PER_HOUR, oneHour.apply(0L));
+        assertEquals(2 * CivilTime.MILLIS_PER_HOUR, recorder.build().apply(0L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mustSpecifyDayWithinMonthWhenApplied() {
+        DateRecipe.recipe().inMonth(2).onDay(30).build().apply(DECEMBER_1_2012_AT_1_PM);
+    }
+}
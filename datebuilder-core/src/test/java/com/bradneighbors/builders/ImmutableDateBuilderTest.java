@@ -0,0 +1,58 @@
+package com.bradneighbors.builders;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+
+import static com.bradneighbors.builders.DateBuilder.MM_dd_yyyy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+public class ImmutableDateBuilderTest {
+
+    private static final ImmutableDateBuilder DECEMBER_1_2012 = ImmutableDateBuilder.MM_dd_yyyy("12_01_2012");
+
+    @Test
+    public void leavesTheOriginalUntouched() {
+        ImmutableDateBuilder later = DECEMBER_1_2012.addDays(2).addHours(3);
+        assertEquals(1354320000000L, DECEMBER_1_2012.buildMillis());
+        assertEquals(MM_dd_yyyy("12_01_2012").addDays(2).addHours(3).buildMillis(), later.buildMillis());
+    }
+
+    @Test
+    public void matchesTheMutableBuilder() {
+        long expected = MM_dd_yyyy("12_01_2012").inTimeZone("America/New_York").subtractDays(40).inMonth(2).onDay(29)
+                .addYears(4).inYear(2020).subtractMinutes(90).atMidnightExactly().buildMillis();
+        long actual = DECEMBER_1_2012.inTimeZone("America/New_York").subtractDays(40).inMonth(2).onDay(29)
+                .addYears(4).inYear(2020).subtractMinutes(90).atMidnightExactly().buildMillis();
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void convertsToAndFromTheMutableBuilder() {
+        DateBuilder builder = DECEMBER_1_2012.inTimeZone("Asia/Tokyo").toBuilder();
+        assertEquals(LocalDate.of(2012, 12, 1), builder.buildLocalDate());
+        assertEquals(DECEMBER_1_2012.inTimeZone("Asia/Tokyo"), builder.toImmutable());
+        builder.addDays(1);
+        assertEquals(1354320000000L, DECEMBER_1_2012.buildMillis());
+    }
+
+    @Test
+    public void comparesByInstantAndZone() {
+        assertEquals(DECEMBER_1_2012, ImmutableDateBuilder.ofMillis(1354320000000L));
+        assertEquals(DECEMBER_1_2012.hashCode(), ImmutableDateBuilder.ofMillis(1354320000000L).hashCode());
+        assertNotEquals(DECEMBER_1_2012, DECEMBER_1_2012.inTimeZone("Asia/Tokyo"));
+        assertNotEquals(DECEMBER_1_2012, DECEMBER_1_2012.addHours(1));
+    }
+
+    @Test
+    public void returnsItselfWhenNothingChanges() {
+        assertSame(DECEMBER_1_2012, DECEMBER_1_2012.atMidnightExactly());
+    }
+
+    @Test
+    public void printsAsAnOffsetDateTime() {
+        assertEquals("2012-12-01T09:00+09:00", DECEMBER_1_2012.inTimeZone("Asia/Tokyo").toString());
+    }
+}
@@ -0,0 +1,50 @@
+package com.bradneighbors.builders;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MidnightCacheTest {
+
+    private static final long DECEMBER_1_2012 = 1354320000000L;
+
+    private final MidnightCache cache = new MidnightCache();
+
+    @Test
+    public void findsMidnightWithinTheDay() {
+        assertEquals(DECEMBER_1_2012, cache.midnightOf(DECEMBER_1_2012 + 13 * CivilTime.MILLIS_PER_HOUR));
+        assertEquals(DECEMBER_1_2012, cache.midnightOf(DECEMBER_1_2012));
+        assertEquals(DECEMBER_1_2012, cache.midnightOf(DECEMBER_1_2012 + CivilTime.MILLIS_PER_DAY - 1L));
+    }
+
+    @Test
+    public void rollsOverToTheNextDay() {
+        cache.midnightOf(DECEMBER_1_2012 + 13 * CivilTime.MILLIS_PER_HOUR);
+        assertEquals(DECEMBER_1_2012 + CivilTime.MILLIS_PER_DAY, cache.midnightOf(DECEMBER_1_2012 + CivilTime.MILLIS_PER_DAY));
+    }
+
+    @Test
+    public void followsClocksThatGoBackwards() {
+        cache.midnightOf(DECEMBER_1_2012 + 13 * CivilTime.MILLIS_PER_HOUR);
+        assertEquals(DECEMBER_1_2012 - CivilTime.MILLIS_PER_DAY, cache.midnightOf(DECEMBER_1_2012 - 1L));
+    }
+
+    @Test
+    public void handlesDatesBeforeTheEpoch() {
+        assertEquals(-CivilTime.MILLIS_PER_DAY, cache.midnightOf(-1L));
+    }
+
+    @Test
+    public void findsMidnightsOfTimeSourcesOnDifferentDays() {
+        TimeSource december1 = TimeSource.fixed(DECEMBER_1_2012 + 13 * CivilTime.MILLIS_PER_HOUR);
+        TimeSource december2 = TimeSource.offset(december1, CivilTime.MILLIS_PER_DAY);
+        long today = Math.floorDiv(System.currentTimeMillis(), CivilTime.MILLIS_PER_DAY) * CivilTime.MILLIS_PER_DAY;
+        for (int i = 0; i < 3; i++) {
+            assertEquals(DECEMBER_1_2012, cache.midnightOf(december1));
+            assertEquals(DECEMBER_1_2012 + CivilTime.MILLIS_PER_DAY, cache.midnightOf(december2));
+            long system = cache.midnightOf(TimeSource.system());
+            assertTrue(system == today || system == today + CivilTime.MILLIS_PER_DAY);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.bradneighbors.builders;
+
+import org.junit.Test;
+
+import static com.bradneighbors.builders.DateBuilder.tryMM_dd_yyyy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ParseStatusTest {
+
+    @Test
+    public void successfulParsesAreNotFailures() {
+        long result = tryMM_dd_yyyy("08_29_1974");
+        assertFalse(ParseStatus.isFailure(result));
+        assertEquals(146966400000L, result);
+        assertEquals(0, ParseStatus.errorCode(result));
+        assertEquals(-1, ParseStatus.errorOffset(result));
+    }
+
+    @Test
+    public void earliestParseableDateIsNotAFailure() {
+        assertFalse(ParseStatus.isFailure(tryMM_dd_yyyy("01_01_0000")));
+    }
+
+    @Test
+    public void reportsWrongLength() {
+        assertFailure(ParseStatus.WRONG_LENGTH, 9, tryMM_dd_yyyy("08_29_197"));
+        assertFailure(ParseStatus.WRONG_LENGTH, 10, tryMM_dd_yyyy("08_29_19745"));
+    }
+
+    @Test
+    public void reportsFirstBadCharacter() {
+        assertFailure(ParseStatus.NOT_A_DIGIT, 7, tryMM_dd_yyyy("08_29_1x74"));
+        assertFailure(ParseStatus.MISSING_SEPARATOR, 2, tryMM_dd_yyyy("08-29-1974"));
+        assertFailure(ParseStatus.NOT_A_DIGIT, 0, tryMM_dd_yyyy("crap_01_02"));
+    }
+
+    @Test
+    public void reportsFieldsOutOfRange() {
+        assertFailure(ParseStatus.MONTH_OUT_OF_RANGE, 0, tryMM_dd_yyyy("00_29_1974"));
+        assertFailure(ParseStatus.DAY_OUT_OF_RANGE, 3, tryMM_dd_yyyy("02_29_1974"));
+    }
+
+    @Test
+    public void describesFailures() {
+        assertEquals("not a digit at offset 7", ParseStatus.describe(tryMM_dd_yyyy("08_29_1x74")));
+    }
+
+    private static void assertFailure(int errorCode, int errorOffset, long result) {
+        assertTrue(ParseStatus.isFailure(result));
+        assertEquals(errorCode, ParseStatus.errorCode(result));
+        assertEquals(errorOffset, ParseStatus.errorOffset(result));
+    }
+}
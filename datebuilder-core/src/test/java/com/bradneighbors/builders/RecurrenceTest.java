@@ -0,0 +1,139 @@
+package com.bradneighbors.builders;
+
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class RecurrenceTest {
+
+    private static final ImmutableDateBuilder JANUARY_1_2012_9AM = ImmutableDateBuilder.MM_dd_yyyy("01_01_2012")
+            .addHours(9);
+
+    @Test
+    public void findsTheSecondTuesdayOfEveryMonth() {
+        Recurrence recurrence = Recurrence.parse("FREQ=MONTHLY;BYDAY=2TU", JANUARY_1_2012_9AM);
+        assertArrayEquals(new long[]{utc(2012, 1, 10, 9), utc(2012, 2, 14, 9), utc(2012, 3, 13, 9)},
+                recurrence.occurrences().limit(3).toArray());
+    }
+
+    @Test
+    public void findsEveryOtherTuesdayAndThursday() {
+        Recurrence recurrence = Recurrence.parse("RRULE:FREQ=WEEKLY;INTERVAL=2;BYDAY=TU,TH",
+                ImmutableDateBuilder.MM_dd_yyyy("01_02_2012"));
+        assertArrayEquals(new long[]{utc(2012, 1, 3, 0), utc(2012, 1, 5, 0), utc(2012, 1, 17, 0), utc(2012, 1, 19, 0)},
+                recurrence.occurrences().limit(4).toArray());
+    }
+
+    @Test
+    public void findsTheLastBusinessDayOfEveryMonth() {
+        BusinessCalendar calendar = BusinessCalendar.years(2012, 2013).holiday(2012, 12, 31).build();
+        Recurrence recurrence = Recurrence.parse("FREQ=MONTHLY;BYDAY=MO,TU,WE,TH,FR;BYSETPOS=-1", JANUARY_1_2012_9AM)
+                .onBusinessDays(calendar);
+        assertEquals(utc(2012, 12, 28, 9), recurrence.next(utc(2012, 12, 1, 0)));
+        assertEquals(utc(2012, 9, 28, 9), recurrence.next(utc(2012, 9, 1, 0)));
+        assertEquals(utc(2012, 1, 31, 9), recurrence.first());
+    }
+
+    @Test
+    public void findsLeapDaysAndLastDaysOfTheMonth() {
+        assertArrayEquals(new long[]{utc(2012, 2, 29, 9), utc(2016, 2, 29, 9), utc(2020, 2, 29, 9)},
+                Recurrence.parse("FREQ=YEARLY;BYMONTH=2;BYMONTHDAY=29;COUNT=3", JANUARY_1_2012_9AM)
+                        .occurrences().toArray());
+        assertArrayEquals(new long[]{utc(2012, 1, 31, 9), utc(2012, 2, 29, 9), utc(2012, 3, 31, 9)},
+                Recurrence.parse("FREQ=MONTHLY;BYMONTHDAY=-1", JANUARY_1_2012_9AM).occurrences().limit(3).toArray());
+    }
+
+    @Test
+    public void countsOrdinalsWithinTheYearWithoutByMonth() {
+        assertEquals(utc(2012, 5, 14, 9), Recurrence.parse("FREQ=YEARLY;BYDAY=20MO", JANUARY_1_2012_9AM).first());
+    }
+
+    @Test
+    public void defaultsToTheDayOfTheStart() {
+        ImmutableDateBuilder start = ImmutableDateBuilder.MM_dd_yyyy("01_31_2012");
+        assertArrayEquals(new long[]{utc(2012, 1, 31, 0), utc(2012, 3, 31, 0), utc(2012, 5, 31, 0)},
+                Recurrence.parse("FREQ=MONTHLY", start).occurrences().limit(3).toArray());
+        assertArrayEquals(new long[]{utc(2012, 1, 31, 0), utc(2013, 1, 31, 0)},
+                Recurrence.parse("FREQ=YEARLY;UNTIL=20130131", start).occurrences().toArray());
+    }
+
+    @Test
+    public void stopsAtCountAndUntil() {
+        Recurrence counted = Recurrence.parse("FREQ=DAILY;COUNT=3", JANUARY_1_2012_9AM);
+        assertEquals(3, counted.occurrences().count());
+        assertEquals(utc(2012, 1, 3, 9), counted.next(utc(2012, 1, 2, 9)));
+        assertEquals(Recurrence.NONE, counted.next(utc(2012, 1, 3, 9)));
+        assertEquals(2, counted.occurrencesAfter(utc(2012, 1, 1, 12)).count());
+        Recurrence until = Recurrence.parse("FREQ=DAILY;UNTIL=20120103T090000Z", JANUARY_1_2012_9AM);
+        assertEquals(3, until.occurrences().count());
+        assertEquals(Recurrence.NONE, until.next(utc(2012, 1, 3, 9)));
+    }
+
+    @Test
+    public void jumpsToTheNextOccurrenceAfterAnyInstant() {
+        Recurrence recurrence = Recurrence.parse("FREQ=MONTHLY;INTERVAL=5;BYDAY=-1FR,1MO", JANUARY_1_2012_9AM);
+        long[] all = recurrence.occurrences().limit(2000).toArray();
+        for (int i = 1; i < all.length; i += 37) {
+            assertEquals(all[i], recurrence.next(all[i - 1]));
+            assertEquals(all[i], recurrence.next(all[i] - 1));
+            assertEquals(all[i], recurrence.occurrencesAfter(all[i] - 1).findFirst().getAsLong());
+        }
+    }
+
+    @Test
+    public void keepsTheLocalTimeAcrossDaylightSavingTime() {
+        ImmutableDateBuilder start = JANUARY_1_2012_9AM.inTimeZone("America/New_York").inYear(2012).atMidnightExactly()
+                .addHours(9);
+        long[] mondays = Recurrence.parse("FREQ=WEEKLY;BYDAY=MO", start).occurrences().limit(20).toArray();
+        ZoneId newYork = ZoneId.of("America/New_York");
+        for (long monday : mondays) {
+            assertEquals(9, Instant.ofEpochMilli(monday).atZone(newYork).getHour());
+        }
+    }
+
+    @Test
+    public void endsRulesThatNeverMatch() {
+        assertEquals(Recurrence.NONE, Recurrence.parse("FREQ=YEARLY;BYMONTH=2;BYMONTHDAY=30", JANUARY_1_2012_9AM)
+                .first());
+    }
+
+    @Test(timeout = 2000)
+    public void endsImpossibleRulesWithoutSearching() {
+        String[] rules = {"FREQ=DAILY;BYMONTH=2;BYMONTHDAY=31", "FREQ=MONTHLY;BYMONTH=4,6;BYMONTHDAY=-31",
+                "FREQ=DAILY;BYSETPOS=2", "FREQ=WEEKLY;BYDAY=MO,TU;BYSETPOS=3,-3"};
+        for (String rule : rules) {
+            Recurrence recurrence = Recurrence.parse(rule, JANUARY_1_2012_9AM);
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(rule, Recurrence.NONE, recurrence.next(JANUARY_1_2012_9AM.buildMillis() + i));
+            }
+            assertEquals(rule, 0L, recurrence.occurrences().count());
+        }
+        assertEquals(Recurrence.NONE, Recurrence.parse("FREQ=MONTHLY;BYMONTH=2", ImmutableDateBuilder.MM_dd_yyyy(
+                "01_30_2012")).first());
+        assertEquals(utc(2012, 3, 30, 0), Recurrence.parse("FREQ=MONTHLY;BYMONTH=2,3", ImmutableDateBuilder.MM_dd_yyyy(
+                "01_30_2012")).first());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUnsupportedRuleParts() {
+        Recurrence.parse("FREQ=HOURLY;BYHOUR=9", JANUARY_1_2012_9AM);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsOrdinalsInWeeklyRules() {
+        Recurrence.parse("FREQ=WEEKLY;BYDAY=2TU", JANUARY_1_2012_9AM);
+    }
+
+    private static long utc(int year, int month, int day, int hour) {
+        return LocalDateTime.of(LocalDate.of(year, month, day), LocalTime.of(hour, 0))
+                .toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,77 @@
+package com.bradneighbors.builders;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static com.bradneighbors.builders.DateBuilder.now;
+import static com.bradneighbors.builders.DateBuilder.today;
+import static com.bradneighbors.builders.DateBuilder.tomorrow;
+import static com.bradneighbors.builders.DateBuilder.yesterday;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TimeSourceTest {
+
+    private static final long DECEMBER_1_2012 = 1354320000000L;
+    private static final long DECEMBER_1_2012_AT_1_PM = DECEMBER_1_2012 + 13 * CivilTime.MILLIS_PER_HOUR;
+
+    @After
+    public void restoreSystemTimeSource() {
+        DateBuilder.useTimeSource(TimeSource.system());
+    }
+
+    @Test
+    public void factoriesReadTheSpecifiedTimeSource() {
+        TimeSource source = TimeSource.fixed(DECEMBER_1_2012_AT_1_PM);
+        assertEquals(DECEMBER_1_2012_AT_1_PM, now(source).buildMillis());
+        assertEquals(DECEMBER_1_2012, today(source).buildMillis());
+        assertEquals(DECEMBER_1_2012_AT_1_PM - CivilTime.MILLIS_PER_DAY, yesterday(source).buildMillis());
+        assertEquals(DECEMBER_1_2012_AT_1_PM + CivilTime.MILLIS_PER_DAY, tomorrow(source).buildMillis());
+    }
+
+    @Test
+    public void factoriesReadTheDefaultTimeSource() {
+        DateBuilder.useTimeSource(TimeSource.fixed(DECEMBER_1_2012_AT_1_PM));
+        assertEquals(DECEMBER_1_2012_AT_1_PM, now().buildMillis());
+        assertEquals(DECEMBER_1_2012, today().buildMillis());
+    }
+
+    @Test
+    public void offsetsAnotherTimeSource() {
+        TimeSource source = TimeSource.offset(TimeSource.fixed(DECEMBER_1_2012), -CivilTime.MILLIS_PER_HOUR);
+        assertEquals(DECEMBER_1_2012 - CivilTime.MILLIS_PER_HOUR, source.currentTimeMillis());
+    }
+
+    @Test
+    public void scalesTheProgressOfAnotherTimeSource() {
+        final long[] base = {5000L};
+        TimeSource manual = new TimeSource() {
+            @Override
+            public long currentTimeMillis() {
+                return base[0];
+            }
+        };
+        TimeSource scaled = TimeSource.scaled(manual, DECEMBER_1_2012, 60.0);
+        assertEquals(DECEMBER_1_2012, scaled.currentTimeMillis());
+        base[0] += 1000L;
+        assertEquals(DECEMBER_1_2012 + CivilTime.MILLIS_PER_MINUTE, scaled.currentTimeMillis());
+    }
+
+    @Test
+    public void coarseTimeSourceFollowsTheSystemClock() throws InterruptedException {
+        CoarseTimeSource source = TimeSource.coarse(1);
+        try {
+            long before = System.currentTimeMillis();
+            Thread.sleep(50);
+            assertTrue(source.currentTimeMillis() >= before);
+            assertTrue(source.currentTimeMillis() <= System.currentTimeMillis());
+        } finally {
+            source.close();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mustSpecifyADefaultTimeSource() {
+        DateBuilder.useTimeSource(null);
+    }
+}
@@ -0,0 +1,156 @@
+package com.bradneighbors.builders;
+
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ZoneTableTest {
+
+    private static final String[] ZONES = {"America/New_York", "Europe/London", "Australia/Lord_Howe",
+            "Asia/Kolkata", "America/Sao_Paulo", "Pacific/Apia", "Etc/GMT+5"};
+
+    @Test
+    public void agreesWithJavaTimeOffsets() {
+        for (String id : ZONES) {
+            ZoneRules rules = ZoneId.of(id).getRules();
+            ZoneTable table = ZoneTable.forId(id);
+            for (long instant = -5000000000000L; instant < 5000000000000L; instant += 3333333333L) {
+                assertEquals(id + " at " + instant, rules.getOffset(Instant.ofEpochMilli(instant)).getTotalSeconds() * 1000,
+                        table.offsetAt(instant));
+            }
+        }
+    }
+
+    @Test
+    public void convertsLocalTimesBackToTheSameInstant() {
+        for (String id : ZONES) {
+            checkRoundTrips(id, ZoneTable.forId(id));
+        }
+    }
+
+    private static void checkRoundTrips(String id, ZoneTable table) {
+        for (long instant = -5000000000000L; instant < 5000000000000L; instant += 3333333L * 997) {
+            long local = table.toLocal(instant);
+            long utc = table.toUtc(local);
+            assertEquals(id + " at " + instant, local, table.toLocal(utc));
+        }
+    }
+
+    @Test
+    public void resolvesOverlappingLocalTimesToTheEarlierInstantUnlessTheOffsetIsKept() {
+        ZoneTable newYork = ZoneTable.forId("America/New_York");
+        long oneThirtyOnNovember4_2012 = MM_dd_yyyy("11_04_2012") + 90 * CivilTime.MILLIS_PER_MINUTE;
+        int edt = (int) (-4 * CivilTime.MILLIS_PER_HOUR);
+        int est = (int) (-5 * CivilTime.MILLIS_PER_HOUR);
+        assertEquals(oneThirtyOnNovember4_2012 + 4 * CivilTime.MILLIS_PER_HOUR, newYork.toUtc(oneThirtyOnNovember4_2012));
+        assertEquals(oneThirtyOnNovember4_2012 + 4 * CivilTime.MILLIS_PER_HOUR,
+                newYork.toUtc(oneThirtyOnNovember4_2012, edt));
+        assertEquals(oneThirtyOnNovember4_2012 + 5 * CivilTime.MILLIS_PER_HOUR,
+                newYork.toUtc(oneThirtyOnNovember4_2012, est));
+    }
+
+    @Test
+    public void ignoresKeptOffsetsThatAreNotValidForTheLocalTime() {
+        ZoneTable newYork = ZoneTable.forId("America/New_York");
+        long noonOnJuly4_2012 = MM_dd_yyyy("07_04_2012") + 12 * CivilTime.MILLIS_PER_HOUR;
+        assertEquals(noonOnJuly4_2012 + 4 * CivilTime.MILLIS_PER_HOUR,
+                newYork.toUtc(noonOnJuly4_2012, (int) (-5 * CivilTime.MILLIS_PER_HOUR)));
+        long twoThirtyOnMarch11_2012 = MM_dd_yyyy("03_11_2012") + 150 * CivilTime.MILLIS_PER_MINUTE;
+        assertEquals(newYork.toUtc(twoThirtyOnMarch11_2012),
+                newYork.toUtc(twoThirtyOnMarch11_2012, (int) (-5 * CivilTime.MILLIS_PER_HOUR)));
+    }
+
+    @Test
+    public void convertsLocalTimesBackToTheSameInstantKeepingTheirOffset() {
+        for (String id : ZONES) {
+            ZoneTable table = ZoneTable.forId(id);
+            for (long instant = -5000000000000L; instant < 5000000000000L; instant += 3333333L * 997) {
+                assertEquals(id + " at " + instant, instant, table.toUtc(table.toLocal(instant), table.offsetAt(instant)));
+            }
+        }
+    }
+
+    @Test
+    public void movesLocalTimesInAGapForward() {
+        ZoneTable newYork = ZoneTable.forId("America/New_York");
+        long twoThirtyOnMarch11_2012 = MM_dd_yyyy("03_11_2012") + 150 * CivilTime.MILLIS_PER_MINUTE;
+        assertEquals(twoThirtyOnMarch11_2012 + 5 * CivilTime.MILLIS_PER_HOUR, newYork.toUtc(twoThirtyOnMarch11_2012));
+        assertEquals(twoThirtyOnMarch11_2012 + CivilTime.MILLIS_PER_HOUR,
+                newYork.toLocal(newYork.toUtc(twoThirtyOnMarch11_2012)));
+    }
+
+    @Test
+    public void sharesTablesBetweenLookups() {
+        assertSame(ZoneTable.forId("Europe/Paris"), ZoneTable.forZone(ZoneId.of("Europe/Paris")));
+        assertSame(ZoneTable.UTC, ZoneTable.forZone(ZoneOffset.UTC));
+        assertSame(ZoneTable.UTC, ZoneTable.forId("UTC"));
+        assertSame(ZoneTable.UTC, ZoneTable.forZone(ZoneId.of("Etc/UTC")));
+    }
+
+    @Test
+    public void buildsSharedTablesFromRules() {
+        ZoneTable kolkata = ZoneTable.forRules(new JavaTimeBacked("Asia/Kolkata"));
+        assertSame(kolkata, ZoneTable.forRules(new JavaTimeBacked("Asia/Kolkata")));
+        assertSame(ZoneTable.UTC, ZoneTable.forRules(new JavaTimeBacked("UTC")));
+        assertEquals("Asia/Kolkata", kolkata.id());
+        checkRoundTrips("Asia/Kolkata", kolkata);
+        long august29_1974 = MM_dd_yyyy("08_29_1974");
+        assertEquals(august29_1974 - 330 * CivilTime.MILLIS_PER_MINUTE,
+                new DateBuilder(august29_1974, ZoneTable.UTC).inTimeZone(new JavaTimeBacked("Asia/Kolkata"))
+                        .atMidnightExactly().buildMillis());
+    }
+
+    @Test
+    public void answersInstantsAfterTheTableFromTheRules() {
+        ZoneTable newYork = ZoneTable.forId("America/New_York");
+        long july4_2150 = MM_dd_yyyy("07_04_2150");
+        assertEquals(-4 * CivilTime.MILLIS_PER_HOUR, newYork.offsetAt(july4_2150));
+        assertEquals(july4_2150 + 4 * CivilTime.MILLIS_PER_HOUR, newYork.toUtc(july4_2150));
+    }
+
+    private static long MM_dd_yyyy(String date) {
+        return DateParsers.MM_dd_yyyy(date);
+    }
+
+    /**
+     * Rules from java.time zone data that only the public interface knows about.
+     */
+    private static final class JavaTimeBacked implements TimeZoneRules {
+
+        private final String id;
+        private final ZoneRules rules;
+
+        JavaTimeBacked(String id) {
+            this.id = id;
+            this.rules = ZoneId.of(id).getRules();
+        }
+
+        @Override
+        public String id() {
+            return id;
+        }
+
+        @Override
+        public boolean isFixed() {
+            return rules.isFixedOffset();
+        }
+
+        @Override
+        public int offsetAt(long instant) {
+            return rules.getOffset(Instant.ofEpochMilli(instant)).getTotalSeconds() * 1000;
+        }
+
+        @Override
+        public long nextTransition(long instant) {
+            ZoneOffsetTransition next = rules.nextTransition(Instant.ofEpochMilli(instant));
+            return next == null ? Long.MAX_VALUE : next.getInstant().toEpochMilli();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.bradneighbors.builders.javatime;
+
+import com.bradneighbors.builders.TimeSource;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * Bridges {@link TimeSource}s and java.time {@link Clock}s, for services that inject a <code>Clock</code> and want
+ * their dates built from the same time.
+ *
+ * <p>Examples:</p>
+ * <ul>
+ * <li><code>DateBuilder.useTimeSource(JavaTimeClocks.timeSource(clock));</code></li>
+ * <li><code>Clock clock = JavaTimeClocks.clock(TimeSource.coarse(10), ZoneOffset.UTC);</code></li>
+ * </ul>
+ */
+public final class JavaTimeClocks {
+
+    private JavaTimeClocks() {
+    }
+
+    /**
+     * Gets a time source that reads a clock.
+     *
+     * @param clock the clock
+     * @return The time source.
+     */
+    public static TimeSource timeSource(final Clock clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock must not be null");
+        }
+        return new TimeSource() {
+            @Override
+            public long currentTimeMillis() {
+                return clock.millis();
+            }
+        };
+    }
+
+    /**
+     * Gets a clock that reads a time source.
+     *
+     * @param timeSource the time source
+     * @param zone       the zone of the clock
+     * @return The clock.
+     */
+    public static Clock clock(TimeSource timeSource, ZoneId zone) {
+        if (timeSource == null || zone == null) {
+            throw new IllegalArgumentException("Time source and zone must not be null");
+        }
+        return new TimeSourceClock(timeSource, zone);
+    }
+
+    private static final class TimeSourceClock extends Clock {
+
+        private final TimeSource timeSource;
+        private final ZoneId zone;
+
+        TimeSourceClock(TimeSource timeSource, ZoneId zone) {
+            this.timeSource = timeSource;
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return zone.equals(this.zone) ? this : new TimeSourceClock(timeSource, zone);
+        }
+
+        @Override
+        public long millis() {
+            return timeSource.currentTimeMillis();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof TimeSourceClock && ((TimeSourceClock) other).timeSource.equals(timeSource)
+                    && ((TimeSourceClock) other).zone.equals(zone);
+        }
+
+        @Override
+        public int hashCode() {
+            return timeSource.hashCode() ^ zone.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "TimeSourceClock[" + timeSource + "," + zone + "]";
+        }
+    }
+}
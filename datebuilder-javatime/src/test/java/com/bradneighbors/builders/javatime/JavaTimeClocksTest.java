@@ -0,0 +1,36 @@
+package com.bradneighbors.builders.javatime;
+
+import com.bradneighbors.builders.DateBuilder;
+import com.bradneighbors.builders.TimeSource;
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.Assert.assertEquals;
+
+public class JavaTimeClocksTest {
+
+    private static final long AUGUST_29_1974 = 146966400000L;
+
+    @Test
+    public void buildsDatesFromAClock() {
+        Clock clock = Clock.fixed(Instant.ofEpochMilli(AUGUST_29_1974 + 12345L), ZoneOffset.UTC);
+        assertEquals(AUGUST_29_1974, DateBuilder.today(JavaTimeClocks.timeSource(clock)).buildMillis());
+    }
+
+    @Test
+    public void readsATimeSourceAsAClock() {
+        Clock clock = JavaTimeClocks.clock(TimeSource.fixed(AUGUST_29_1974), ZoneOffset.UTC);
+        assertEquals(AUGUST_29_1974, clock.millis());
+        assertEquals(Instant.ofEpochMilli(AUGUST_29_1974), clock.instant());
+        assertEquals(ZoneId.of("Asia/Tokyo"), clock.withZone(ZoneId.of("Asia/Tokyo")).getZone());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNullClock() {
+        JavaTimeClocks.timeSource(null);
+    }
+}
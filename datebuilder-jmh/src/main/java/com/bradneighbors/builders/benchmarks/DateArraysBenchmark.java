@@ -0,0 +1,69 @@
+package com.bradneighbors.builders.benchmarks;
+
+import com.bradneighbors.builders.DateArrays;
+import com.bradneighbors.builders.DateRecipe;
+import com.bradneighbors.builders.ImmutableDateBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures <code>addDays(1).atMidnightExactly()</code> over a whole array: in bulk with {@link DateArrays},
+ * with a {@link DateRecipe}, and one immutable builder per value.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DateArraysBenchmark {
+
+    private static final DateRecipe NEXT_MIDNIGHT = DateRecipe.recipe().addDays(1).atMidnightExactly().build();
+
+    @Param({"1024", "1048576"})
+    private int size;
+
+    private long[] millis;
+
+    @Setup(Level.Invocation)
+    public void fill() {
+        if (millis == null) {
+            millis = new long[size];
+        }
+        for (int i = 0; i < size; i++) {
+            millis[i] = 1354320000000L + i * 3600001L;
+        }
+    }
+
+    @Benchmark
+    public long[] dateArrays() {
+        DateArrays.addDaysAtMidnight(millis, 1);
+        return millis;
+    }
+
+    @Benchmark
+    public long[] recipe() {
+        NEXT_MIDNIGHT.applyAll(millis);
+        return millis;
+    }
+
+    @Benchmark
+    public long[] builderPerValue() {
+        for (int i = 0; i < millis.length; i++) {
+            millis[i] = ImmutableDateBuilder.ofMillis(millis[i]).addDays(1).atMidnightExactly().buildMillis();
+        }
+        return millis;
+    }
+}
@@ -0,0 +1,141 @@
+package com.bradneighbors.builders.benchmarks;
+
+import com.bradneighbors.builders.DateBuilder;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the static factories of {@link DateBuilder} against raw joda-time and java.time equivalents.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FactoryBenchmark {
+
+    private static final DateTimeFormatter JODA_MM_DD_YYYY = DateTimeFormat.forPattern("MM_dd_yyyy").withZone(DateTimeZone.UTC);
+    private static final java.time.format.DateTimeFormatter JAVA_TIME_MM_DD_YYYY =
+            java.time.format.DateTimeFormatter.ofPattern("MM_dd_yyyy");
+
+    private String date = "08_29_1974";
+
+    @Benchmark
+    public long now() {
+        return DateBuilder.now().buildMillis();
+    }
+
+    @Benchmark
+    public long today() {
+        return DateBuilder.today().buildMillis();
+    }
+
+    @Benchmark
+    public long yesterday() {
+        return DateBuilder.yesterday().buildMillis();
+    }
+
+    @Benchmark
+    public long tomorrow() {
+        return DateBuilder.tomorrow().buildMillis();
+    }
+
+    @Benchmark
+    public long MM_dd_yyyy() {
+        return DateBuilder.MM_dd_yyyy(date).buildMillis();
+    }
+
+    @Benchmark
+    public Date MM_dd_yyyyBuild() {
+        return DateBuilder.MM_dd_yyyy(date).build();
+    }
+
+    @Benchmark
+    public long jodaNow() {
+        return new DateTime(DateTimeZone.UTC).getMillis();
+    }
+
+    @Benchmark
+    public long jodaToday() {
+        return new DateTime(DateTimeZone.UTC).toDateMidnight().getMillis();
+    }
+
+    @Benchmark
+    public long jodaYesterday() {
+        return new DateTime(DateTimeZone.UTC).minusDays(1).getMillis();
+    }
+
+    @Benchmark
+    public long jodaTomorrow() {
+        return new DateTime(DateTimeZone.UTC).plusDays(1).getMillis();
+    }
+
+    @Benchmark
+    public long jodaMM_dd_yyyy() {
+        return JODA_MM_DD_YYYY.parseMillis(date);
+    }
+
+    @Benchmark
+    public Date jodaMM_dd_yyyyBuild() {
+        return JODA_MM_DD_YYYY.parseDateTime(date).toDate();
+    }
+
+    @Benchmark
+    public long javaTimeToday() {
+        return LocalDate.now(ZoneOffset.UTC).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    @Benchmark
+    public long javaTimeNow() {
+        return Instant.now().toEpochMilli();
+    }
+
+    @Benchmark
+    public long javaTimeYesterday() {
+        return Instant.now().minus(1, ChronoUnit.DAYS).toEpochMilli();
+    }
+
+    @Benchmark
+    public long javaTimeTomorrow() {
+        return Instant.now().plus(1, ChronoUnit.DAYS).toEpochMilli();
+    }
+
+    @Benchmark
+    public long javaTimeMM_dd_yyyy() {
+        return LocalDate.parse(date, JAVA_TIME_MM_DD_YYYY).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    @Benchmark
+    public Date javaTimeMM_dd_yyyyBuild() {
+        return Date.from(LocalDate.parse(date, JAVA_TIME_MM_DD_YYYY).atStartOfDay().toInstant(ZoneOffset.UTC));
+    }
+
+    @Benchmark
+    public long simpleDateFormatMM_dd_yyyy() throws ParseException {
+        SimpleDateFormat format = new SimpleDateFormat("MM_dd_yyyy");
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return format.parse(date).getTime();
+    }
+}
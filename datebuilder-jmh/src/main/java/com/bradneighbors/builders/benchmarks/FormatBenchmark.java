@@ -0,0 +1,76 @@
+package com.bradneighbors.builders.benchmarks;
+
+import com.bradneighbors.builders.ImmutableDateBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures formatting a day's worth of timestamps into a reused buffer, against SimpleDateFormat and
+ * java.time's DateTimeFormatter. Run with <code>-prof gc</code> to compare allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FormatBenchmark {
+
+    private static final DateTimeFormatter ISO = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX")
+            .withZone(ZoneOffset.UTC);
+
+    private final StringBuilder out = new StringBuilder(64);
+    private final char[] chars = new char[64];
+    private SimpleDateFormat simpleDateFormat;
+    private long millis = 1354320000000L;
+
+    @Setup
+    public void setUp() {
+        simpleDateFormat = new SimpleDateFormat("MM_dd_yyyy");
+        simpleDateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+    }
+
+    private long nextMillis() {
+        millis += 1234L;
+        return millis;
+    }
+
+    @Benchmark
+    public int formatMM_dd_yyyyIntoChars() {
+        return ImmutableDateBuilder.ofMillis(nextMillis()).formatMM_dd_yyyy(chars, 0);
+    }
+
+    @Benchmark
+    public String simpleDateFormatMM_dd_yyyy() {
+        return simpleDateFormat.format(new Date(nextMillis()));
+    }
+
+    @Benchmark
+    public StringBuilder formatIso8601IntoStringBuilder() {
+        out.setLength(0);
+        return ImmutableDateBuilder.ofMillis(nextMillis()).formatIso8601(out);
+    }
+
+    @Benchmark
+    public StringBuilder dateTimeFormatterIso8601() {
+        out.setLength(0);
+        ISO.formatTo(Instant.ofEpochMilli(nextMillis()), out);
+        return out;
+    }
+}
@@ -0,0 +1,240 @@
+package com.bradneighbors.builders.benchmarks;
+
+import com.bradneighbors.builders.DateBuilder;
+import com.bradneighbors.builders.TimeSource;
+import org.joda.time.DateTimeZone;
+import org.joda.time.MutableDateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures each mutator and terminal operation of {@link DateBuilder} against raw joda-time and java.time equivalents.
+ *
+ * <p>The builders are reset before every iteration. Additive operations are measured as an add and its inverse so the
+ * value stays near its starting date however many invocations an iteration runs. Midnight is measured on a fresh
+ * instant every invocation, since it would otherwise only be computed once and then find the value already at
+ * midnight.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MutatorBenchmark {
+
+    private static final long DECEMBER_1_2012 = 1354320000000L;
+
+    /**
+     * Steps the instants measured at midnight by a little over twenty minutes, so they are rarely at midnight.
+     */
+    private static final long STEP_MILLIS = 1234567L;
+
+    private DateBuilder builder;
+    private MutableDateTime jodaDateTime;
+    private LocalDateTime javaTimeDateTime;
+
+    private long millis = DECEMBER_1_2012;
+    private final TimeSource steppingClock = this::nextMillis;
+
+    private int days = 1;
+    private int hours = 1;
+    private int minutes = 1;
+    private int years = 1;
+    private int year = 1974;
+    private int month = 8;
+    private int day = 29;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        builder = DateBuilder.MM_dd_yyyy("12_01_2012").addHours(13);
+        jodaDateTime = new MutableDateTime(DECEMBER_1_2012, DateTimeZone.UTC);
+        jodaDateTime.addHours(13);
+        javaTimeDateTime = LocalDateTime.of(2012, 12, 1, 13, 0);
+    }
+
+    private long nextMillis() {
+        millis += STEP_MILLIS;
+        return millis;
+    }
+
+    @Benchmark
+    public long atMidnightExactly() {
+        return DateBuilder.now(steppingClock).atMidnightExactly().buildMillis();
+    }
+
+    @Benchmark
+    public long addAndSubtractDays() {
+        return builder.addDays(days).subtractDays(days).buildMillis();
+    }
+
+    @Benchmark
+    public long addYears() {
+        return builder.addYears(years).addYears(-years).buildMillis();
+    }
+
+    @Benchmark
+    public long inYearInMonthOnDay() {
+        return builder.inYear(year).inMonth(month).onDay(day).buildMillis();
+    }
+
+    @Benchmark
+    public long inYear() {
+        return builder.inYear(year).buildMillis();
+    }
+
+    @Benchmark
+    public long inMonth() {
+        return builder.inMonth(month).buildMillis();
+    }
+
+    @Benchmark
+    public long onDay() {
+        return builder.onDay(day).buildMillis();
+    }
+
+    @Benchmark
+    public long addHoursAndSubtractMinutes() {
+        return builder.addHours(hours).subtractMinutes(minutes * 60).buildMillis();
+    }
+
+    @Benchmark
+    public Date build() {
+        return builder.build();
+    }
+
+    @Benchmark
+    public long buildMillis() {
+        return builder.buildMillis();
+    }
+
+    @Benchmark
+    public long jodaAtMidnightExactly() {
+        jodaDateTime.setMillis(nextMillis());
+        jodaDateTime.setMillisOfDay(0);
+        return jodaDateTime.getMillis();
+    }
+
+    @Benchmark
+    public long jodaAddAndSubtractDays() {
+        jodaDateTime.addDays(days);
+        jodaDateTime.addDays(-days);
+        return jodaDateTime.getMillis();
+    }
+
+    @Benchmark
+    public long jodaAddYears() {
+        jodaDateTime.addYears(years);
+        jodaDateTime.addYears(-years);
+        return jodaDateTime.getMillis();
+    }
+
+    @Benchmark
+    public long jodaInYearInMonthOnDay() {
+        jodaDateTime.setYear(year);
+        jodaDateTime.setMonthOfYear(month);
+        jodaDateTime.setDayOfMonth(day);
+        return jodaDateTime.getMillis();
+    }
+
+    @Benchmark
+    public long jodaInYear() {
+        jodaDateTime.setYear(year);
+        return jodaDateTime.getMillis();
+    }
+
+    @Benchmark
+    public long jodaInMonth() {
+        jodaDateTime.setMonthOfYear(month);
+        return jodaDateTime.getMillis();
+    }
+
+    @Benchmark
+    public long jodaOnDay() {
+        jodaDateTime.setDayOfMonth(day);
+        return jodaDateTime.getMillis();
+    }
+
+    @Benchmark
+    public long jodaAddHoursAndSubtractMinutes() {
+        jodaDateTime.addHours(hours);
+        jodaDateTime.addMinutes(-minutes * 60);
+        return jodaDateTime.getMillis();
+    }
+
+    @Benchmark
+    public Date jodaBuild() {
+        return jodaDateTime.toDate();
+    }
+
+    @Benchmark
+    public long jodaBuildMillis() {
+        return jodaDateTime.getMillis();
+    }
+
+    @Benchmark
+    public long javaTimeAtMidnightExactly() {
+        return Instant.ofEpochMilli(nextMillis()).atOffset(ZoneOffset.UTC).toLocalDate().atStartOfDay()
+                .toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    @Benchmark
+    public long javaTimeAddAndSubtractDays() {
+        return javaTimeDateTime.plusDays(days).minusDays(days).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    @Benchmark
+    public long javaTimeAddYears() {
+        return javaTimeDateTime.plusYears(years).minusYears(years).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    @Benchmark
+    public long javaTimeInYearInMonthOnDay() {
+        return javaTimeDateTime.withYear(year).withMonth(month).withDayOfMonth(day).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    @Benchmark
+    public long javaTimeInYear() {
+        return javaTimeDateTime.withYear(year).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    @Benchmark
+    public long javaTimeInMonth() {
+        return javaTimeDateTime.withMonth(month).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    @Benchmark
+    public long javaTimeOnDay() {
+        return javaTimeDateTime.withDayOfMonth(day).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    @Benchmark
+    public long javaTimeAddHoursAndSubtractMinutes() {
+        return javaTimeDateTime.plusHours(hours).minusMinutes(minutes * 60).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    @Benchmark
+    public Date javaTimeBuild() {
+        return Date.from(javaTimeDateTime.toInstant(ZoneOffset.UTC));
+    }
+
+    @Benchmark
+    public long javaTimeBuildMillis() {
+        return javaTimeDateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,35 @@
+package com.bradneighbors.builders.benchmarks;
+
+import com.bradneighbors.builders.DateBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the first build in a fresh JVM, which is dominated by class loading and initialisation, as in short-lived
+ * command line tools and serverless functions. Each fork measures a single call.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(30)
+public class StartupBenchmark {
+
+    @Benchmark
+    public Date firstNowBuild() {
+        return DateBuilder.now().build();
+    }
+
+    @Benchmark
+    public Date firstBuild() {
+        return DateBuilder.MM_dd_yyyy("08_29_1974").addDays(1).build();
+    }
+}
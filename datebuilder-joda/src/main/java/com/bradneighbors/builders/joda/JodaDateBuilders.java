@@ -0,0 +1,60 @@
+package com.bradneighbors.builders.joda;
+
+import com.bradneighbors.builders.DateBuilder;
+import com.bradneighbors.builders.DateRecipe;
+import com.bradneighbors.builders.ImmutableDateBuilder;
+import org.joda.time.DateTimeZone;
+
+/**
+ * Builds dates in joda-time time zones. These replace the <code>inTimeZone(DateTimeZone)</code> methods that
+ * {@link DateBuilder}, {@link ImmutableDateBuilder} and {@link DateRecipe.Recorder} had before joda-time moved out of
+ * datebuilder-core.
+ *
+ * <p>Example:</p>
+ * <ul>
+ * <li><code>Date midnightInTokyo = JodaDateBuilders.inTimeZone(now(), DateTimeZone.forID("Asia/Tokyo"))
+ * .atMidnightExactly().build();</code></li>
+ * </ul>
+ */
+public final class JodaDateBuilders {
+
+    private JodaDateBuilders() {
+    }
+
+    /**
+     * Instructs the builder to build the date in the specified time zone, see
+     * {@link DateBuilder#inTimeZone(java.time.ZoneId)}.
+     *
+     * @param builder  the builder
+     * @param timeZone the time zone
+     * @return The builder.
+     * @throws java.lang.IllegalArgumentException When the time zone is null.
+     */
+    public static DateBuilder inTimeZone(DateBuilder builder, DateTimeZone timeZone) {
+        return builder.inTimeZone(JodaZones.rules(timeZone));
+    }
+
+    /**
+     * Gets a builder for the same instant in the specified time zone.
+     *
+     * @param builder  the builder
+     * @param timeZone the time zone
+     * @return The new builder.
+     * @throws java.lang.IllegalArgumentException When the time zone is null.
+     */
+    public static ImmutableDateBuilder inTimeZone(ImmutableDateBuilder builder, DateTimeZone timeZone) {
+        return builder.inTimeZone(JodaZones.rules(timeZone));
+    }
+
+    /**
+     * Records building the date in the specified time zone, see {@link DateBuilder#inTimeZone(java.time.ZoneId)}.
+     *
+     * @param recorder the recorder
+     * @param timeZone the time zone
+     * @return The recorder.
+     * @throws java.lang.IllegalArgumentException When the time zone is null.
+     */
+    public static DateRecipe.Recorder inTimeZone(DateRecipe.Recorder recorder, DateTimeZone timeZone) {
+        return recorder.inTimeZone(JodaZones.rules(timeZone));
+    }
+}
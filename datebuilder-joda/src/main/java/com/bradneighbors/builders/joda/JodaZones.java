@@ -0,0 +1,59 @@
+package com.bradneighbors.builders.joda;
+
+import com.bradneighbors.builders.TimeZoneRules;
+import org.joda.time.DateTimeZone;
+
+/**
+ * Adapts joda-time zones to {@link TimeZoneRules}, for callers that hand over a {@link DateTimeZone}.
+ * Lives in datebuilder-joda so that datebuilder-core does not depend on joda-time; the builders build and share the
+ * offset table of each zone id themselves.
+ */
+final class JodaZones {
+
+    private JodaZones() {
+    }
+
+    /**
+     * Gets the rules of a zone.
+     *
+     * @param zone the zone
+     * @return the rules
+     * @throws IllegalArgumentException When the zone is null.
+     */
+    static TimeZoneRules rules(DateTimeZone zone) {
+        if (zone == null) {
+            throw new IllegalArgumentException("Time zone must not be null");
+        }
+        return new JodaRules(zone);
+    }
+
+    private static final class JodaRules implements TimeZoneRules {
+
+        private final DateTimeZone zone;
+
+        JodaRules(DateTimeZone zone) {
+            this.zone = zone;
+        }
+
+        @Override
+        public String id() {
+            return zone.getID();
+        }
+
+        @Override
+        public boolean isFixed() {
+            return zone.isFixed();
+        }
+
+        @Override
+        public int offsetAt(long instant) {
+            return zone.getOffset(instant);
+        }
+
+        @Override
+        public long nextTransition(long instant) {
+            long next = zone.nextTransition(instant);
+            return next == instant ? Long.MAX_VALUE : next;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.bradneighbors.builders.joda;
+
+import com.bradneighbors.builders.DateRecipe;
+import com.bradneighbors.builders.ImmutableDateBuilder;
+import org.joda.time.DateTimeZone;
+import org.junit.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+import static com.bradneighbors.builders.DateBuilder.MM_dd_yyyy;
+import static org.junit.Assert.assertEquals;
+
+public class JodaZonesTest {
+
+    private static final String[] ZONES = {"America/New_York", "Europe/London", "Australia/Lord_Howe",
+            "Asia/Kolkata", "America/Sao_Paulo", "Pacific/Apia", "Etc/GMT+5"};
+
+    @Test
+    public void agreesWithJodaOffsets() {
+        for (String id : ZONES) {
+            DateTimeZone zone = DateTimeZone.forID(id);
+            for (long instant = -5000000000000L; instant < 5000000000000L; instant += 3333333333L) {
+                OffsetDateTime built = JodaDateBuilders.inTimeZone(ImmutableDateBuilder.ofMillis(instant), zone)
+                        .buildOffsetDateTime();
+                assertEquals(id + " at " + instant, zone.getOffset(instant), built.getOffset().getTotalSeconds() * 1000);
+            }
+        }
+    }
+
+    @Test
+    public void convertsLocalTimesBackToTheSameInstant() {
+        for (String id : ZONES) {
+            DateTimeZone zone = DateTimeZone.forID(id);
+            for (long instant = -5000000000000L; instant < 5000000000000L; instant += 3333333L * 997) {
+                ImmutableDateBuilder builder = JodaDateBuilders.inTimeZone(ImmutableDateBuilder.ofMillis(instant), zone);
+                ImmutableDateBuilder sameDay = builder.onDay(builder.buildLocalDate().getDayOfMonth());
+                assertEquals(id + " at " + instant, builder.buildOffsetDateTime().toLocalDateTime(),
+                        sameDay.buildOffsetDateTime().toLocalDateTime());
+            }
+        }
+    }
+
+    @Test
+    public void buildsJodaUtcAsUtc() {
+        ImmutableDateBuilder august29 = ImmutableDateBuilder.ofMillis(146966400000L);
+        assertEquals(august29, JodaDateBuilders.inTimeZone(august29, DateTimeZone.UTC));
+    }
+
+    @Test
+    public void comparesImmutableBuildersByZoneId() {
+        ImmutableDateBuilder august29 = ImmutableDateBuilder.ofMillis(146966400000L);
+        ImmutableDateBuilder joda = JodaDateBuilders.inTimeZone(august29, DateTimeZone.forID("Europe/Paris"));
+        ImmutableDateBuilder javaTime = august29.inTimeZone(ZoneId.of("Europe/Paris"));
+        assertEquals(javaTime, joda);
+        assertEquals(javaTime.hashCode(), joda.hashCode());
+    }
+
+    @Test
+    public void setsFieldsInJodaTimeZone() {
+        Date date = JodaDateBuilders.inTimeZone(MM_dd_yyyy("12_01_2012"), DateTimeZone.forID("Asia/Tokyo"))
+                .inYear(1974).inMonth(8).onDay(29).atMidnightExactly().build();
+        assertEquals(MM_dd_yyyy("08_28_1974").addHours(15).buildMillis(), date.getTime());
+    }
+
+    @Test
+    public void buildsImmutablyAndFromRecipesInJodaTimeZone() {
+        long expected = MM_dd_yyyy("08_28_1974").addHours(15).buildMillis();
+        ImmutableDateBuilder august29 = ImmutableDateBuilder.ofMillis(MM_dd_yyyy("08_29_1974").buildMillis());
+        assertEquals(expected, JodaDateBuilders.inTimeZone(august29, DateTimeZone.forID("Asia/Tokyo"))
+                .atMidnightExactly().buildMillis());
+        DateRecipe recipe = JodaDateBuilders.inTimeZone(DateRecipe.recipe(), DateTimeZone.forID("Asia/Tokyo"))
+                .atMidnightExactly().build();
+        assertEquals(expected, recipe.apply(MM_dd_yyyy("08_29_1974").buildMillis()));
+    }
+}